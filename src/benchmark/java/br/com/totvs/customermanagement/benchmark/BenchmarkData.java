@@ -0,0 +1,100 @@
+package br.com.totvs.customermanagement.benchmark;
+
+import br.com.totvs.customermanagement.payload.request.AddressRequestPayload;
+import br.com.totvs.customermanagement.payload.request.ClientRequestPayload;
+import br.com.totvs.customermanagement.payload.request.PhoneRequestPayload;
+import br.com.totvs.customermanagement.util.NumberUtil;
+import br.com.totvs.customermanagement.util.UuidUtil;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Deterministic benchmark clients: the client at a given index always has the same valid CPF, name, phones and
+ * addresses, so benchmarks can address seeded rows without reading them back.
+ */
+final class BenchmarkData {
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Inserts the clients {@code [0, clients)} with plain JDBC batches, skipping validation.
+     *
+     * @param jdbcTemplate the target database, with the schema already migrated
+     * @param clients the number of clients
+     * @param phones phones per client, at most 10
+     * @param addresses addresses per client
+     */
+    static void seed(JdbcTemplate jdbcTemplate, int clients, int phones, int addresses) {
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+
+        for (int start = 0; start < clients; start += SEED_BATCH_SIZE) {
+            List<Object[]> clientRows = new ArrayList<>(SEED_BATCH_SIZE);
+            List<Object[]> phoneRows = new ArrayList<>(SEED_BATCH_SIZE * phones);
+            List<Object[]> addressRows = new ArrayList<>(SEED_BATCH_SIZE * addresses);
+
+            for (int index = start; index < Math.min(start + SEED_BATCH_SIZE, clients); index++) {
+                ClientRequestPayload client = client(index, phones, addresses);
+                UUID clientId = UuidUtil.timeOrdered();
+                clientRows.add(new Object[]{clientId, client.name(), NumberUtil.parseCpf(client.cpf())});
+                for (PhoneRequestPayload phone : client.phones()) {
+                    phoneRows.add(new Object[]{UuidUtil.timeOrdered(), phone.number(), clientId});
+                }
+                for (AddressRequestPayload address : client.addresses()) {
+                    addressRows.add(new Object[]{UuidUtil.timeOrdered(), address.street(), address.complement(),
+                            address.city(), address.state(), address.zipCode(), clientId});
+                }
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate("INSERT INTO clients (id, name, cpf) VALUES (?, ?, ?)", clientRows);
+                jdbcTemplate.batchUpdate("INSERT INTO phones (id, number, client_id) VALUES (?, ?, ?)", phoneRows);
+                jdbcTemplate.batchUpdate("INSERT INTO addresses (id, street, complement, city, state, zip_code, client_id) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)", addressRows);
+            });
+        }
+    }
+
+    static ClientRequestPayload client(int index, int phones, int addresses) {
+        return new ClientRequestPayload(name(index), cpf(index),
+                IntStream.range(0, phones).mapToObj(phone -> new PhoneRequestPayload(phone(index, phone))).toList(),
+                IntStream.range(0, addresses).mapToObj(address -> new AddressRequestPayload(
+                        "Benchmark Street " + address, address % 2 == 0 ? null : "Apartment " + index,
+                        "Goiânia", "GO", String.format("%08d", 74000000 + address))).toList());
+    }
+
+    static String name(int index) {
+        return String.format("Benchmark client %09d", index);
+    }
+
+    /**
+     * A valid CPF built from {@code index + 1} as its first nine digits.
+     */
+    static String cpf(int index) {
+        String base = String.format("%09d", index + 1);
+        int firstVerifier = verifier(base, 10);
+        return base + firstVerifier + verifier(base + firstVerifier, 11);
+    }
+
+    static String phone(int index, int phone) {
+        return "1" + phone + String.format("%09d", index);
+    }
+
+    private static int verifier(String digits, int weight) {
+        int sum = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            sum += (digits.charAt(i) - '0') * (weight - i);
+        }
+        int verifier = 11 - (sum % 11);
+        return verifier > 9 ? 0 : verifier;
+    }
+}
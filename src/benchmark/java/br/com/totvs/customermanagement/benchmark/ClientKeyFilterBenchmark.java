@@ -0,0 +1,103 @@
+package br.com.totvs.customermanagement.benchmark;
+
+import br.com.totvs.customermanagement.payload.request.ClientRequestPayload;
+import br.com.totvs.customermanagement.payload.request.PhoneRequestPayload;
+import br.com.totvs.customermanagement.service.ClientKeyFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ClientKeyFilter} checks over {@link BenchmarkData} clients, sized for the keys loaded as the
+ * application does, and prints its memory per million keys and the false positive rate measured against as many
+ * clients that were not added when the trial starts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class ClientKeyFilterBenchmark {
+
+    private static final int PHONES = 2;
+    private static final int SAMPLES = 1024;
+
+    @Param({"1000000"})
+    private int clients;
+
+    @Param({"0.01"})
+    private double falsePositiveRate;
+
+    private ClientKeyFilter filter;
+    private ClientRequestPayload[] newClients;
+    private ClientRequestPayload[] existingClients;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        long keys = (long) this.clients * (2 + PHONES);
+        this.filter = new ClientKeyFilter(keys, this.falsePositiveRate);
+        for (int i = 0; i < this.clients; i++) {
+            ClientRequestPayload client = BenchmarkData.client(i, PHONES, 0);
+            this.filter.putCpf(client.cpf());
+            this.filter.putName(client.name());
+            client.phones().stream().map(PhoneRequestPayload::number).forEach(this.filter::putPhone);
+        }
+
+        long falsePositives = 0;
+        for (int i = this.clients; i < 2 * this.clients; i++) {
+            ClientRequestPayload client = BenchmarkData.client(i, PHONES, 0);
+            if (mightContain(client)) {
+                falsePositives++;
+            }
+        }
+        System.out.printf("%nKey filter: %d keys in %.2f MB (%.2f MB per million keys), "
+                        + "%.2f%% of new clients sent to the conflicts query%n", this.filter.size(),
+                this.filter.memoryBytes() / 1_048_576.0, this.filter.memoryBytes() / 1_048_576.0 * 1_000_000 / keys,
+                100.0 * falsePositives / this.clients);
+
+        this.newClients = new ClientRequestPayload[SAMPLES];
+        this.existingClients = new ClientRequestPayload[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            this.newClients[i] = BenchmarkData.client(this.clients + randomClient(), PHONES, 0);
+            this.existingClients[i] = BenchmarkData.client(randomClient(), PHONES, 0);
+        }
+    }
+
+    /**
+     * A new client, the usual case, answered as soon as one probe finds an unset bit.
+     */
+    @Benchmark
+    public boolean newClient() {
+        return mightContain(this.newClients[ThreadLocalRandom.current().nextInt(SAMPLES)]);
+    }
+
+    /**
+     * A client already added, found after every probe of its CPF.
+     */
+    @Benchmark
+    public boolean existingClient() {
+        return mightContain(this.existingClients[ThreadLocalRandom.current().nextInt(SAMPLES)]);
+    }
+
+    private boolean mightContain(ClientRequestPayload client) {
+        return this.filter.mightContainCpf(client.cpf()) || this.filter.mightContainName(client.name())
+                || client.phones().stream().map(PhoneRequestPayload::number).anyMatch(this.filter::mightContainPhone);
+    }
+
+    private int randomClient() {
+        return ThreadLocalRandom.current().nextInt(this.clients);
+    }
+}
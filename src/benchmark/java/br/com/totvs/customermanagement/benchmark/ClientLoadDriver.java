@@ -0,0 +1,320 @@
+package br.com.totvs.customermanagement.benchmark;
+
+import br.com.totvs.customermanagement.CustomermanagementApplication;
+import br.com.totvs.customermanagement.payload.request.AddressRequestPayload;
+import br.com.totvs.customermanagement.payload.request.ClientRequestPayload;
+import br.com.totvs.customermanagement.payload.request.PhoneRequestPayload;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Load driver for the {@code /totvs/clients} routes.
+ * <p>
+ * Seeds the database with {@link BenchmarkData} when the clients table is empty, then drives each route with
+ * a fixed number of concurrent clients for a fixed time and reports throughput and latency percentiles.
+ * Without {@code --base-url} the application is started in-process with the {@code test} profile (H2);
+ * otherwise it targets a running instance and seeds through {@code --jdbc-url}.
+ * </p>
+ * <p>
+ * Options, all as {@code --name=value}: {@code clients} (10000), {@code phones} (1), {@code addresses} (1),
+ * {@code threads} (8), {@code warmup} seconds (5), {@code duration} seconds (15), {@code routes}
+ * (get,page,update,patch,create,import,delete,list,stream), {@code virtual-threads} (false, embedded application only),
+ * {@code base-url}, {@code jdbc-url}, {@code jdbc-user} and {@code jdbc-password}.
+ * </p>
+ */
+public final class ClientLoadDriver {
+
+    private static final String CLIENTS_PATH = "/totvs/clients";
+    private static final String DEFAULT_ROUTES = "get,page,update,patch,create,import,delete,list,stream";
+    private static final int IMPORT_BATCH_SIZE = 100;
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final String baseUrl;
+    private final int clients;
+    private final int phones;
+    private final int addresses;
+    private final int threads;
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger nextCreatedIndex;
+    private final Queue<Integer> createdIndexes = new ConcurrentLinkedQueue<>();
+
+    private ClientLoadDriver(String baseUrl, int clients, int phones, int addresses, int threads, int existingClients) {
+        this.baseUrl = baseUrl + CLIENTS_PATH;
+        this.clients = clients;
+        this.phones = phones;
+        this.addresses = addresses;
+        this.threads = threads;
+        // Created clients use indexes past everything already stored, so reruns against the same database don't collide.
+        this.nextCreatedIndex = new AtomicInteger(Math.max(clients, existingClients) + 1_000_000);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int clients = Integer.parseInt(options.getOrDefault("clients", "10000"));
+        int phones = Integer.parseInt(options.getOrDefault("phones", "1"));
+        int addresses = Integer.parseInt(options.getOrDefault("addresses", "1"));
+        int threads = Integer.parseInt(options.getOrDefault("threads", "8"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "5"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "15"));
+        List<String> routes = Arrays.asList(options.getOrDefault("routes", DEFAULT_ROUTES).split(","));
+
+        ConfigurableApplicationContext context = null;
+        try {
+            String baseUrl = options.get("base-url");
+            JdbcTemplate jdbcTemplate;
+            if (baseUrl == null) {
+                context = new SpringApplicationBuilder(CustomermanagementApplication.class)
+                        .profiles("test")
+                        .run("--server.port=0", "--spring.jpa.show-sql=false", "--logging.level.root=WARN",
+                                "--spring.threads.virtual.enabled=" + options.getOrDefault("virtual-threads", "false"));
+                baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+                jdbcTemplate = context.getBean(JdbcTemplate.class);
+            } else {
+                jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(required(options, "jdbc-url"),
+                        options.getOrDefault("jdbc-user", "postgres"), options.getOrDefault("jdbc-password", "")));
+            }
+
+            Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM clients", Integer.class);
+            if (existing == null || existing == 0) {
+                long start = System.nanoTime();
+                BenchmarkData.seed(jdbcTemplate, clients, phones, addresses);
+                System.out.printf("Seeded %d clients (%d phones, %d addresses each) in %.1f s%n",
+                        clients, phones, addresses, (System.nanoTime() - start) / 1e9);
+            } else {
+                System.out.printf("Found %d clients, skipping seed; clients [0, %d) must come from a previous seed%n",
+                        existing, clients);
+            }
+
+            ClientLoadDriver driver = new ClientLoadDriver(baseUrl, clients, phones, addresses, threads,
+                    existing == null ? 0 : existing);
+            driver.run(routes, warmup, duration);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private void run(List<String> routes, int warmupSeconds, int durationSeconds) throws Exception {
+        Map<String, Supplier<HttpRequest>> requests = requests();
+        System.out.printf("%s, %d threads, %d s warmup + %d s per route%n%n", this.baseUrl, this.threads,
+                warmupSeconds, durationSeconds);
+        System.out.printf("%-8s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "route", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        // Each simulated client is a virtual thread, so high concurrency doesn't starve the driver itself.
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            for (String route : routes) {
+                Supplier<HttpRequest> request = requests.get(route.strip());
+                if (request == null) {
+                    throw new IllegalArgumentException("Unknown route " + route + ", expected one of " + requests.keySet());
+                }
+                drive(executor, request, warmupSeconds);
+                Recorder result = drive(executor, request, durationSeconds);
+                System.out.println(result.format(route.strip()));
+            }
+
+            // Remove whatever the create and import routes left behind.
+            Integer index;
+            while ((index = this.createdIndexes.poll()) != null) {
+                this.httpClient.send(delete(index), HttpResponse.BodyHandlers.discarding());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<String, Supplier<HttpRequest>> requests() {
+        Map<String, Supplier<HttpRequest>> requests = new LinkedHashMap<>();
+        requests.put("get", () -> get("/" + BenchmarkData.cpf(randomClient())));
+        requests.put("page", () -> get("?limit=100&cursor=" + BenchmarkData.cpf(randomClient())));
+        requests.put("update", () -> {
+            ClientRequestPayload client = BenchmarkData.client(randomClient(), this.phones, this.addresses);
+            return json("/" + client.cpf(), "PUT", client);
+        });
+        requests.put("patch", () -> {
+            int index = randomClient();
+            return json("/" + BenchmarkData.cpf(index), "PATCH", Map.of("name", BenchmarkData.name(index)));
+        });
+        requests.put("create", () -> {
+            int index = this.nextCreatedIndex.getAndIncrement();
+            this.createdIndexes.add(index);
+            return json("", "POST", BenchmarkData.client(index, this.phones, this.addresses));
+        });
+        requests.put("import", this::importBatch);
+        requests.put("delete", () -> {
+            Integer index = this.createdIndexes.poll();
+            return index == null ? null : delete(index);
+        });
+        requests.put("list", () -> get(""));
+        requests.put("stream", () -> get("/stream"));
+        return requests;
+    }
+
+    /**
+     * Runs the request on every thread until the time is up; a {@code null} request stops its thread early.
+     */
+    private Recorder drive(ExecutorService executor, Supplier<HttpRequest> request, int seconds) throws Exception {
+        long begin = System.nanoTime();
+        long deadline = begin + TimeUnit.SECONDS.toNanos(seconds);
+        List<Future<Recorder>> workers = new ArrayList<>(this.threads);
+        for (int i = 0; i < this.threads; i++) {
+            workers.add(executor.submit(() -> {
+                Recorder recorder = new Recorder();
+                HttpRequest next;
+                while (System.nanoTime() < deadline && (next = request.get()) != null) {
+                    long start = System.nanoTime();
+                    try {
+                        int status = this.httpClient.send(next, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        recorder.record(System.nanoTime() - start, status >= 200 && status < 300);
+                    } catch (Exception e) {
+                        recorder.record(System.nanoTime() - start, false);
+                    }
+                }
+                return recorder;
+            }));
+        }
+
+        Recorder total = new Recorder();
+        for (Future<Recorder> worker : workers) {
+            total.add(worker.get());
+        }
+        total.elapsed = System.nanoTime() - begin;
+        return total;
+    }
+
+    private HttpRequest importBatch() {
+        StringBuilder csv = new StringBuilder("name,cpf,phones,street,complement,city,state,zipCode\n");
+        for (int i = 0; i < IMPORT_BATCH_SIZE; i++) {
+            int index = this.nextCreatedIndex.getAndIncrement();
+            this.createdIndexes.add(index);
+            ClientRequestPayload client = BenchmarkData.client(index, this.phones, 1);
+            AddressRequestPayload address = client.addresses().get(0);
+            csv.append(client.name()).append(',').append(client.cpf()).append(',')
+                    .append(client.phones().stream().map(PhoneRequestPayload::number).collect(Collectors.joining("|")))
+                    .append(',').append(address.street()).append(',')
+                    .append(address.complement() == null ? "" : address.complement()).append(',')
+                    .append(address.city()).append(',').append(address.state()).append(',').append(address.zipCode())
+                    .append('\n');
+        }
+        return HttpRequest.newBuilder(URI.create(this.baseUrl + "/import"))
+                .header("Content-Type", "text/csv")
+                .POST(HttpRequest.BodyPublishers.ofString(csv.toString()))
+                .build();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(this.baseUrl + path)).GET().build();
+    }
+
+    private HttpRequest delete(int index) {
+        return HttpRequest.newBuilder(URI.create(this.baseUrl + "/" + BenchmarkData.cpf(index))).DELETE().build();
+    }
+
+    private HttpRequest json(String path, String method, Object body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(this.baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(this.objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private int randomClient() {
+        return ThreadLocalRandom.current().nextInt(this.clients);
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Options must look like --name=value, got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("--" + name + " is required with --base-url");
+        }
+        return value;
+    }
+
+    /**
+     * Latencies of one route, in nanoseconds.
+     */
+    private static final class Recorder {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+        private long elapsed;
+
+        private void record(long latency, boolean success) {
+            if (this.count == this.latencies.length) {
+                this.latencies = Arrays.copyOf(this.latencies, this.count * 2);
+            }
+            this.latencies[this.count++] = latency;
+            if (!success) {
+                this.errors++;
+            }
+        }
+
+        private void add(Recorder other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.latencies[i], true);
+            }
+            this.errors += other.errors;
+        }
+
+        private String format(String route) {
+            long[] sorted = Arrays.copyOf(this.latencies, this.count);
+            Arrays.sort(sorted);
+
+            StringBuilder line = new StringBuilder(String.format("%-8s %9d %7d %9.1f", route, this.count, this.errors,
+                    this.count / (this.elapsed / 1e9)));
+            for (double percentile : PERCENTILES) {
+                line.append(String.format(" %9.2f", millis(sorted, (int) Math.ceil(percentile * sorted.length) - 1)));
+            }
+            line.append(String.format(" %9.2f", millis(sorted, sorted.length - 1)));
+            return line.toString();
+        }
+
+        private static double millis(long[] sorted, int index) {
+            return sorted.length == 0 ? 0 : sorted[Math.max(index, 0)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.totvs.customermanagement.benchmark;
+
+import br.com.totvs.customermanagement.payload.request.ClientRequestPayload;
+import br.com.totvs.customermanagement.payload.response.AddressResponsePayload;
+import br.com.totvs.customermanagement.payload.response.ClientPageResponsePayload;
+import br.com.totvs.customermanagement.payload.response.ClientResponsePayload;
+import br.com.totvs.customermanagement.payload.response.PhoneResponsePayload;
+import br.com.totvs.customermanagement.util.CsvUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the payload mapping done at the edges of the API: JSON for requests and pages of responses,
+ * and CSV lines for imports.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientMappingBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    private ObjectMapper objectMapper;
+    private ClientPageResponsePayload page;
+    private String pageJson;
+    private String requestJson;
+    private String csvLine;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        this.page = new ClientPageResponsePayload(IntStream.range(0, PAGE_SIZE)
+                .mapToObj(ClientMappingBenchmark::response)
+                .toList(), BenchmarkData.cpf(PAGE_SIZE));
+        this.pageJson = this.objectMapper.writeValueAsString(this.page);
+        this.requestJson = this.objectMapper.writeValueAsString(BenchmarkData.client(0, 2, 2));
+        this.csvLine = "\"Benchmark client 000000000\",12345678909,11999999999|21999999999,"
+                + "\"Benchmark Street 0, 100\",Apartment 1,Goiânia,GO,74860405";
+    }
+
+    @Benchmark
+    public String writePage() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsString(this.page);
+    }
+
+    @Benchmark
+    public ClientPageResponsePayload readPage() throws JsonProcessingException {
+        return this.objectMapper.readValue(this.pageJson, ClientPageResponsePayload.class);
+    }
+
+    @Benchmark
+    public ClientRequestPayload readRequest() throws JsonProcessingException {
+        return this.objectMapper.readValue(this.requestJson, ClientRequestPayload.class);
+    }
+
+    @Benchmark
+    public List<String> parseCsvLine() {
+        return CsvUtil.parseLine(this.csvLine);
+    }
+
+    private static ClientResponsePayload response(int index) {
+        ClientRequestPayload client = BenchmarkData.client(index, 2, 2);
+        return new ClientResponsePayload(client.name(), client.cpf(),
+                client.phones().stream().map(phone -> new PhoneResponsePayload(phone.number())).toList(),
+                client.addresses().stream().map(address -> new AddressResponsePayload(address.street(),
+                        address.complement(), address.city(), address.state(), address.zipCode())).toList());
+    }
+}
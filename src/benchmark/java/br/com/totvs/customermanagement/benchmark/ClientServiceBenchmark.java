@@ -0,0 +1,115 @@
+package br.com.totvs.customermanagement.benchmark;
+
+import br.com.totvs.customermanagement.CustomermanagementApplication;
+import br.com.totvs.customermanagement.payload.request.ClientPatchRequestPayload;
+import br.com.totvs.customermanagement.payload.request.ClientRequestPayload;
+import br.com.totvs.customermanagement.payload.response.ClientPageResponsePayload;
+import br.com.totvs.customermanagement.payload.response.ClientResponsePayload;
+import br.com.totvs.customermanagement.service.ClientService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures {@link ClientService} against an in-memory H2 database seeded with {@link BenchmarkData}.
+ * The client cache is disabled so that reads reach the repositories.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class ClientServiceBenchmark {
+
+    private static final int PHONES = 2;
+    private static final int ADDRESSES = 2;
+
+    @Param({"10000"})
+    private int clients;
+
+    /**
+     * Hibernate JDBC batch size; {@code 1} sends each insert on its own.
+     */
+    @Param({"50"})
+    private int jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+    private ClientService clientService;
+    private final AtomicInteger nextClient = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.context = new SpringApplicationBuilder(CustomermanagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.jpa.show-sql=false", "--totvs.cache.clients.spec=maximumSize=0",
+                        "--logging.level.root=WARN",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + this.jdbcBatchSize);
+        this.clientService = this.context.getBean(ClientService.class);
+        BenchmarkData.seed(this.context.getBean(JdbcTemplate.class), this.clients, PHONES, ADDRESSES);
+        this.nextClient.set(this.clients);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public ClientResponsePayload getClientByCpf() {
+        return this.clientService.getClientByCpf(BenchmarkData.cpf(randomClient()));
+    }
+
+    @Benchmark
+    public ClientPageResponsePayload getClientsPage() {
+        return this.clientService.getClientsPage(BenchmarkData.cpf(randomClient()), 100);
+    }
+
+    /**
+     * Creates a new client with its phones and addresses in each call, growing the table as the benchmark runs.
+     */
+    @Benchmark
+    public ClientResponsePayload createClient() {
+        return this.clientService.createClient(
+                BenchmarkData.client(this.nextClient.getAndIncrement(), PHONES, ADDRESSES));
+    }
+
+    /**
+     * Rewrites a client with its own data, the common case of a form saved without changes.
+     */
+    @Benchmark
+    public ClientResponsePayload updateClientUnchanged() {
+        ClientRequestPayload client = BenchmarkData.client(randomClient(), PHONES, ADDRESSES);
+        return this.clientService.updateClient(client.cpf(), client);
+    }
+
+    @Benchmark
+    public ClientResponsePayload patchClientName() {
+        int index = randomClient();
+        String name = BenchmarkData.name(index) + (ThreadLocalRandom.current().nextBoolean() ? " (edited)" : "");
+        return this.clientService.patchClient(BenchmarkData.cpf(index), new ClientPatchRequestPayload(name, null, null, null));
+    }
+
+    private int randomClient() {
+        return ThreadLocalRandom.current().nextInt(this.clients);
+    }
+}
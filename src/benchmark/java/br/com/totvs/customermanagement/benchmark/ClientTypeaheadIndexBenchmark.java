@@ -0,0 +1,100 @@
+package br.com.totvs.customermanagement.benchmark;
+
+import br.com.totvs.customermanagement.payload.request.ClientRequestPayload;
+import br.com.totvs.customermanagement.payload.request.PhoneRequestPayload;
+import br.com.totvs.customermanagement.payload.response.ClientSuggestionPayload;
+import br.com.totvs.customermanagement.service.ClientTypeaheadIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ClientTypeaheadIndex} queries over {@link BenchmarkData} clients and prints the heap retained
+ * by the index per million clients when the trial starts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class ClientTypeaheadIndexBenchmark {
+
+    private static final int PHONES = 2;
+    private static final int SUGGESTIONS = 10;
+
+    @Param({"1000000"})
+    private int clients;
+
+    private ClientTypeaheadIndex index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        long before = usedHeap();
+        this.index = new ClientTypeaheadIndex();
+        for (int i = 0; i < this.clients; i++) {
+            ClientRequestPayload client = BenchmarkData.client(i, PHONES, 0);
+            this.index.load(client.cpf(), client.name(),
+                    client.phones().stream().map(PhoneRequestPayload::number).toList());
+        }
+        this.index.finishLoading();
+        long retained = usedHeap() - before;
+        System.out.printf("%nTypeahead index: %d clients with %d phones, %.1f MB per million clients%n",
+                this.clients, PHONES, retained / 1_048_576.0 * 1_000_000 / this.clients);
+    }
+
+    /**
+     * A prefix shared by every client name, answered from the first keys of the range.
+     */
+    @Benchmark
+    public List<ClientSuggestionPayload> commonNamePrefix() {
+        return this.index.suggest("Client", SUGGESTIONS);
+    }
+
+    /**
+     * A full name prefix narrowed down to about ten clients.
+     */
+    @Benchmark
+    public List<ClientSuggestionPayload> selectiveNamePrefix() {
+        String name = BenchmarkData.name(randomClient());
+        return this.index.suggest(name.substring(0, name.length() - 1), SUGGESTIONS);
+    }
+
+    @Benchmark
+    public List<ClientSuggestionPayload> phonePrefix() {
+        String phone = BenchmarkData.phone(randomClient(), 1);
+        return this.index.suggest(phone.substring(0, 8), SUGGESTIONS);
+    }
+
+    @Benchmark
+    public List<ClientSuggestionPayload> noMatch() {
+        return this.index.suggest("zz" + randomClient(), SUGGESTIONS);
+    }
+
+    private int randomClient() {
+        return ThreadLocalRandom.current().nextInt(this.clients);
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
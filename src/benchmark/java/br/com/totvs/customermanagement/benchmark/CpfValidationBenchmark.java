@@ -0,0 +1,133 @@
+package br.com.totvs.customermanagement.benchmark;
+
+import br.com.totvs.customermanagement.util.NumberUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the regex based CPF validation with {@link NumberUtil#isValidCpf(CharSequence)} and its batch and
+ * byte variants. Scores are per CPF; add {@code -Djmh.args="-prof gc"} to also report allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CpfValidationBenchmark {
+
+    private static final int CPFS = 1024;
+
+    /**
+     * {@code plain} is "12345678909", {@code formatted} is "123.456.789-09" and {@code mixed} alternates both.
+     */
+    @Param({"plain", "formatted", "mixed"})
+    private String format;
+
+    private String[] cpfs;
+    private byte[][] asciiCpfs;
+    private boolean[] results;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        this.cpfs = new String[CPFS];
+        this.asciiCpfs = new byte[CPFS][];
+        this.results = new boolean[CPFS];
+
+        for (int i = 0; i < CPFS; i++) {
+            String cpf = randomCpf(random, i);
+            boolean formatted = "formatted".equals(this.format) || ("mixed".equals(this.format) && i % 2 == 0);
+            this.cpfs[i] = formatted ? cpf.substring(0, 3) + "." + cpf.substring(3, 6) + "." + cpf.substring(6, 9)
+                    + "-" + cpf.substring(9) : cpf;
+            this.asciiCpfs[i] = this.cpfs[i].getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CPFS)
+    public int legacyRegex() {
+        int valid = 0;
+        for (String cpf : this.cpfs) {
+            if (LegacyCpfValidator.isValidCpf(cpf)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CPFS)
+    public int singlePass() {
+        int valid = 0;
+        for (String cpf : this.cpfs) {
+            if (NumberUtil.isValidCpf(cpf)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CPFS)
+    public int batch() {
+        return NumberUtil.validateCpfs(this.cpfs, this.results);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CPFS)
+    public int asciiBytes() {
+        int valid = 0;
+        for (byte[] cpf : this.asciiCpfs) {
+            if (NumberUtil.isValidAsciiCpf(cpf)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Mostly valid CPFs, as an import would see, with a wrong verifier every 8th and a repeated digit every 32nd.
+     */
+    private static String randomCpf(Random random, int index) {
+        if (index % 32 == 31) {
+            return String.valueOf(index % 10).repeat(11);
+        }
+
+        int[] digits = new int[11];
+        for (int i = 0; i < 9; i++) {
+            digits[i] = random.nextInt(10);
+        }
+        for (int verifier = 9; verifier < 11; verifier++) {
+            int sum = 0;
+            for (int i = 0; i < verifier; i++) {
+                sum += digits[i] * (verifier + 1 - i);
+            }
+            int digit = 11 - (sum % 11);
+            digits[verifier] = digit > 9 ? 0 : digit;
+        }
+        if (index % 8 == 7) {
+            digits[10] = (digits[10] + 1) % 10;
+        }
+
+        StringBuilder cpf = new StringBuilder(11);
+        for (int digit : digits) {
+            cpf.append(digit);
+        }
+        return cpf.toString();
+    }
+}
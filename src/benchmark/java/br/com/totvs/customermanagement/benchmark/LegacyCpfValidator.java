@@ -0,0 +1,46 @@
+package br.com.totvs.customermanagement.benchmark;
+
+/**
+ * The regex based CPF validation that {@link br.com.totvs.customermanagement.util.NumberUtil} used before,
+ * kept only as a baseline for {@link CpfValidationBenchmark}.
+ */
+final class LegacyCpfValidator {
+
+    private LegacyCpfValidator() {
+    }
+
+    static boolean isValidCpf(String cpf) {
+        if (cpf == null) {
+            return false;
+        }
+
+        cpf = cpf.replaceAll("\\D", "");
+        if (cpf.length() != 11 || cpf.matches("(\\d)\\1{10}")) {
+            return false;
+        }
+
+        int sum = 0;
+        for (int i = 0; i < 9; i++) {
+            sum += (cpf.charAt(i) - '0') * (10 - i);
+        }
+        int firstVerifierDigit = 11 - (sum % 11);
+        if (firstVerifierDigit > 9) {
+            firstVerifierDigit = 0;
+        }
+
+        if ((cpf.charAt(9) - '0') != firstVerifierDigit) {
+            return false;
+        }
+
+        sum = 0;
+        for (int i = 0; i < 10; i++) {
+            sum += (cpf.charAt(i) - '0') * (11 - i);
+        }
+        int secondVerifierDigit = 11 - (sum % 11);
+        if (secondVerifierDigit > 9) {
+            secondVerifierDigit = 0;
+        }
+
+        return (cpf.charAt(10) - '0') == secondVerifierDigit;
+    }
+}
@@ -0,0 +1,277 @@
+package br.com.totvs.customermanagement.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@code phones} and {@code addresses} tables as created by the first migrations ({@code plain}) and
+ * hash partitioned by {@code client_id} as by {@code V10__partition_phones_and_addresses.sql}
+ * ({@code partitioned}), on PostgreSQL only, in a {@code partition_benchmark} schema that is dropped at the end.
+ * <p>
+ * Each client gets two phones and two addresses. The load time, the table sizes and the time of a
+ * {@code VACUUM} after changing one phone in a hundred are printed once the tables are loaded; the benchmarks
+ * then run the statements of the application against random clients.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class PartitionedTablesBenchmark {
+
+    private static final int PARTITIONS = 16;
+
+    @Param({"plain", "partitioned"})
+    private String layout;
+
+    @Param({"1000000"})
+    private int clients;
+
+    @Param({"jdbc:postgresql://localhost:5433/totvs"})
+    private String url;
+
+    @Param({"postgres"})
+    private String user;
+
+    @Param({"pires"})
+    private String password;
+
+    private Connection connection;
+    private UUID[] clientIds;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        this.connection = DriverManager.getConnection(this.url, this.user, this.password);
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS partition_benchmark CASCADE");
+            statement.execute("CREATE SCHEMA partition_benchmark");
+            statement.execute("SET search_path TO partition_benchmark");
+            for (String ddl : "partitioned".equals(this.layout) ? partitionedSchema() : plainSchema()) {
+                statement.execute(ddl);
+            }
+
+            long start = System.nanoTime();
+            statement.execute("INSERT INTO clients SELECT gen_random_uuid(), 'Client ' || i, i "
+                    + "FROM generate_series(1, " + this.clients + ") i");
+            statement.execute("INSERT INTO phones SELECT gen_random_uuid(), (11900000000 + c.cpf * 2 + j)::TEXT, c.id "
+                    + "FROM clients c CROSS JOIN generate_series(0, 1) j");
+            statement.execute("INSERT INTO addresses SELECT gen_random_uuid(), 'Street ' || j, NULL, 'Goiânia', "
+                    + "'Goiás', (74860000 + c.cpf % 1000)::TEXT, c.id FROM clients c CROSS JOIN generate_series(0, 1) j");
+            double load = (System.nanoTime() - start) / 1e9;
+            statement.execute("VACUUM ANALYZE");
+
+            statement.execute("UPDATE phones SET number = number || '0' WHERE right(number, 2) = '00'");
+            start = System.nanoTime();
+            statement.execute("VACUUM phones");
+            double vacuum = (System.nanoTime() - start) / 1e9;
+
+            System.out.printf("%n%s: %d clients loaded in %.1f s, phones %.0f MB (largest table %.0f MB), "
+                            + "addresses %.0f MB, VACUUM phones after 1%% updates %.2f s%n", this.layout,
+                    this.clients, load, totalSize(statement, "phones"), largestSize(statement, "phones"),
+                    totalSize(statement, "addresses"), vacuum);
+
+            List<UUID> ids = new ArrayList<>(this.clients);
+            try (ResultSet rows = statement.executeQuery("SELECT id FROM clients")) {
+                while (rows.next()) {
+                    ids.add(rows.getObject(1, UUID.class));
+                }
+            }
+            this.clientIds = ids.toArray(UUID[]::new);
+        }
+        this.connection.setAutoCommit(false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        this.connection.rollback();
+        this.connection.setAutoCommit(true);
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("DROP SCHEMA partition_benchmark CASCADE");
+        }
+        this.connection.close();
+    }
+
+    /**
+     * The collection loads of {@code Client.phones}.
+     */
+    @Benchmark
+    public void phonesOfClient(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement select = this.connection.prepareStatement(
+                "SELECT id, number, client_id FROM phones WHERE client_id = ?")) {
+            select.setObject(1, randomClient());
+            consume(select, blackhole);
+        }
+        this.connection.commit();
+    }
+
+    /**
+     * Changes a phone number with the update issued by Hibernate, restricted by the partition key, and rolls it back.
+     */
+    @Benchmark
+    public int updatePhone() throws SQLException {
+        try (PreparedStatement update = this.connection.prepareStatement(
+                "UPDATE phones SET number = '9' || substr(number, 2) WHERE client_id = ? AND id = "
+                        + "(SELECT id FROM phones WHERE client_id = ? LIMIT 1)")) {
+            UUID client = randomClient();
+            update.setObject(1, client);
+            update.setObject(2, client);
+            int updated = update.executeUpdate();
+            this.connection.rollback();
+            return updated;
+        }
+    }
+
+    /**
+     * The phone branch of the conflicts query read from {@code phones}, which cannot be pruned since it looks up
+     * numbers.
+     */
+    @Benchmark
+    public void phoneConflicts(Blackhole blackhole) throws SQLException {
+        selectTwoNumbers("SELECT p.number, c.cpf FROM phones p JOIN clients c ON c.id = p.client_id "
+                + "WHERE p.number IN (?, ?)", blackhole);
+    }
+
+    /**
+     * The phone branch of the conflicts query as the application runs it, see {@code PhoneNumberTable}: through the
+     * primary key of {@code phone_numbers} on the partitioned layout, from {@code phones} on the plain one.
+     */
+    @Benchmark
+    public void registeredPhoneConflicts(Blackhole blackhole) throws SQLException {
+        String table = "partitioned".equals(this.layout) ? "phone_numbers" : "phones";
+        selectTwoNumbers("SELECT p.number, c.cpf FROM " + table + " p JOIN clients c ON c.id = p.client_id "
+                + "WHERE p.number IN (?, ?)", blackhole);
+    }
+
+    /**
+     * Deletes a client, cascading to its phones and addresses, and rolls the delete back.
+     */
+    @Benchmark
+    public int deleteClient() throws SQLException {
+        try (PreparedStatement delete = this.connection.prepareStatement("DELETE FROM clients WHERE id = ?")) {
+            delete.setObject(1, randomClient());
+            int deleted = delete.executeUpdate();
+            this.connection.rollback();
+            return deleted;
+        }
+    }
+
+    private void selectTwoNumbers(String sql, Blackhole blackhole) throws SQLException {
+        try (PreparedStatement select = this.connection.prepareStatement(sql)) {
+            long client = ThreadLocalRandom.current().nextLong(1, this.clients + 1);
+            select.setString(1, String.valueOf(11900000000L + client * 2));
+            select.setString(2, String.valueOf(11900000001L + client * 2));
+            consume(select, blackhole);
+        }
+        this.connection.commit();
+    }
+
+    private UUID randomClient() {
+        return this.clientIds[ThreadLocalRandom.current().nextInt(this.clientIds.length)];
+    }
+
+    private static void consume(PreparedStatement select, Blackhole blackhole) throws SQLException {
+        try (ResultSet rows = select.executeQuery()) {
+            while (rows.next()) {
+                blackhole.consume(rows.getString(2));
+            }
+        }
+    }
+
+    private static double totalSize(Statement statement, String table) throws SQLException {
+        return megabytes(statement, "SELECT COALESCE(sum(pg_total_relation_size(relid)), pg_total_relation_size('"
+                + table + "')) FROM pg_partition_tree('" + table + "') WHERE isleaf");
+    }
+
+    private static double largestSize(Statement statement, String table) throws SQLException {
+        return megabytes(statement, "SELECT COALESCE(max(pg_total_relation_size(relid)), pg_total_relation_size('"
+                + table + "')) FROM pg_partition_tree('" + table + "') WHERE isleaf");
+    }
+
+    private static double megabytes(Statement statement, String query) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(query)) {
+            resultSet.next();
+            return resultSet.getLong(1) / 1_048_576.0;
+        }
+    }
+
+    private static List<String> plainSchema() {
+        return List.of(
+                "CREATE TABLE clients (id UUID PRIMARY KEY, name VARCHAR(255) NOT NULL, cpf BIGINT NOT NULL UNIQUE)",
+                "CREATE TABLE phones (id UUID PRIMARY KEY, number VARCHAR(20) NOT NULL UNIQUE, client_id UUID NOT NULL "
+                        + "REFERENCES clients (id) ON DELETE CASCADE)",
+                "CREATE TABLE addresses (id UUID PRIMARY KEY, street VARCHAR(255) NOT NULL, complement VARCHAR(255), "
+                        + "city VARCHAR(100) NOT NULL, state VARCHAR(100) NOT NULL, zip_code VARCHAR(10) NOT NULL, "
+                        + "client_id UUID NOT NULL REFERENCES clients (id) ON DELETE CASCADE)",
+                "CREATE INDEX ON phones (client_id, number)",
+                "CREATE INDEX ON phones (number varchar_pattern_ops)",
+                "CREATE INDEX ON addresses (client_id)",
+                "CREATE INDEX ON addresses (zip_code)");
+    }
+
+    private static List<String> partitionedSchema() {
+        List<String> ddl = new ArrayList<>(List.of(
+                "CREATE TABLE clients (id UUID PRIMARY KEY, name VARCHAR(255) NOT NULL, cpf BIGINT NOT NULL UNIQUE)",
+                "CREATE TABLE phones (id UUID NOT NULL, number VARCHAR(20) NOT NULL, client_id UUID NOT NULL "
+                        + "REFERENCES clients (id) ON DELETE CASCADE, PRIMARY KEY (client_id, id)) "
+                        + "PARTITION BY HASH (client_id)",
+                "CREATE TABLE addresses (id UUID NOT NULL, street VARCHAR(255) NOT NULL, complement VARCHAR(255), "
+                        + "city VARCHAR(100) NOT NULL, state VARCHAR(100) NOT NULL, zip_code VARCHAR(10) NOT NULL, "
+                        + "client_id UUID NOT NULL REFERENCES clients (id) ON DELETE CASCADE, "
+                        + "PRIMARY KEY (client_id, id)) PARTITION BY HASH (client_id)",
+                "CREATE TABLE phone_numbers (number VARCHAR(20) PRIMARY KEY, client_id UUID NOT NULL)"));
+        for (int remainder = 0; remainder < PARTITIONS; remainder++) {
+            for (String table : List.of("phones", "addresses")) {
+                ddl.add(String.format("CREATE TABLE %s_p%d PARTITION OF %s FOR VALUES WITH (MODULUS %d, REMAINDER %d)",
+                        table, remainder, table, PARTITIONS, remainder));
+            }
+        }
+        ddl.addAll(List.of(
+                "CREATE INDEX ON phones (client_id, number)",
+                "CREATE INDEX ON phones (number varchar_pattern_ops)",
+                "CREATE INDEX ON addresses (zip_code)",
+                """
+                CREATE FUNCTION register_phone_number() RETURNS TRIGGER LANGUAGE plpgsql AS $$
+                BEGIN
+                    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+                        DELETE FROM phone_numbers WHERE number = OLD.number;
+                    END IF;
+                    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+                        INSERT INTO phone_numbers (number, client_id) VALUES (NEW.number, NEW.client_id);
+                    END IF;
+                    RETURN NULL;
+                END $$
+                """,
+                "CREATE TRIGGER phones_register_number AFTER INSERT OR DELETE ON phones "
+                        + "FOR EACH ROW EXECUTE FUNCTION register_phone_number()",
+                "CREATE TRIGGER phones_reregister_number AFTER UPDATE OF number, client_id ON phones FOR EACH ROW "
+                        + "WHEN (OLD.number IS DISTINCT FROM NEW.number OR OLD.client_id IS DISTINCT FROM NEW.client_id) "
+                        + "EXECUTE FUNCTION register_phone_number()"));
+        return ddl;
+    }
+}
@@ -0,0 +1,135 @@
+package br.com.totvs.customermanagement.benchmark;
+
+import br.com.totvs.customermanagement.util.UuidUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Loads a table shaped like {@code clients} with random (version 4) or time-ordered (version 7) UUID primary keys
+ * and prints the load throughput and the size of the primary key index once the load ends.
+ * <p>
+ * Runs against an H2 file database by default, where only the total size of the table is known. Pass
+ * {@code -p url=jdbc:postgresql://...} (with {@code user} and {@code password}) to measure PostgreSQL, where the
+ * primary key index is measured on its own, along with its leaf density when {@code pgstattuple} is installed.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class PrimaryKeyInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"random", "timeOrdered"})
+    private String keys;
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"jdbc:h2:file:./target/primary-key-benchmark"})
+    private String url;
+
+    @Param({"sa"})
+    private String user;
+
+    @Param({""})
+    private String password;
+
+    private Connection connection;
+    private Supplier<UUID> keyGenerator;
+    private long startNanos;
+
+    @Setup(Level.Iteration)
+    public void setup() throws SQLException {
+        this.connection = DriverManager.getConnection(this.url, this.user, this.password);
+        this.keyGenerator = "random".equals(this.keys) ? UUID::randomUUID : UuidUtil::timeOrdered;
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS primary_key_benchmark");
+            statement.execute("CREATE TABLE primary_key_benchmark (id UUID CONSTRAINT primary_key_benchmark_pkey "
+                    + "PRIMARY KEY, name VARCHAR(255) NOT NULL, cpf BIGINT NOT NULL)");
+        }
+        this.connection.setAutoCommit(false);
+        this.startNanos = System.nanoTime();
+    }
+
+    @Benchmark
+    public void load() throws SQLException {
+        try (PreparedStatement insert = this.connection.prepareStatement(
+                "INSERT INTO primary_key_benchmark (id, name, cpf) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < this.rows; i++) {
+                insert.setObject(1, this.keyGenerator.get());
+                insert.setString(2, BenchmarkData.name(i));
+                insert.setLong(3, i);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0 || i + 1 == this.rows) {
+                    insert.executeBatch();
+                    this.connection.commit();
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws SQLException {
+        double seconds = (System.nanoTime() - this.startNanos) / 1e9;
+        System.out.printf("%n%s keys: %d rows in %.1f s, %.0f rows/s, %s%n", this.keys, this.rows, seconds,
+                this.rows / seconds, indexSize());
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("DROP TABLE primary_key_benchmark");
+        }
+        this.connection.commit();
+        this.connection.close();
+    }
+
+    private String indexSize() throws SQLException {
+        try (Statement statement = this.connection.createStatement()) {
+            if (!this.url.startsWith("jdbc:postgresql:")) {
+                statement.execute("CHECKPOINT SYNC");
+                return String.format("table and indexes %.1f MB",
+                        megabytes(statement, "SELECT DISK_SPACE_USED('PRIMARY_KEY_BENCHMARK')"));
+            }
+            statement.execute("VACUUM ANALYZE primary_key_benchmark");
+            String size = String.format("primary key index %.1f MB",
+                    megabytes(statement, "SELECT pg_relation_size('primary_key_benchmark_pkey')"));
+            try (ResultSet density = statement.executeQuery(
+                    "SELECT avg_leaf_density FROM pgstatindex('primary_key_benchmark_pkey')")) {
+                density.next();
+                return size + String.format(", leaf density %.1f%%", density.getDouble(1));
+            } catch (SQLException pgstattupleMissing) {
+                this.connection.rollback();
+                return size;
+            }
+        }
+    }
+
+    private static double megabytes(Statement statement, String query) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(query)) {
+            resultSet.next();
+            return resultSet.getLong(1) / 1_048_576.0;
+        }
+    }
+}
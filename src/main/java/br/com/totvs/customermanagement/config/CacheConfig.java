@@ -0,0 +1,46 @@
+package br.com.totvs.customermanagement.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String CLIENTS_CACHE = "clients";
+
+    /**
+     * Creates the in-process cache of client aggregates keyed by CPF.
+     * <p>
+     * Caffeine bounds the cache by size and TTL and evicts with W-TinyLFU. The manager is
+     * transaction-aware, so puts and evictions made inside a transaction only reach the cache
+     * after it commits and a rolled back write never leaves the cache out of sync with the database.
+     * </p>
+     * <p>
+     * Writes only evict, and the caches are {@link TombstoneCaffeineCache}s: a read that started before a write
+     * committed cannot put what it read back after the write evicted it, so an entry is never older than the last
+     * write of its client.
+     * </p>
+     *
+     * @param clientsSpec the Caffeine specification of the clients cache
+     * @return the cache manager
+     */
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${totvs.cache.clients.spec:maximumSize=10000,expireAfterWrite=10m,recordStats}") String clientsSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(CLIENTS_CACHE) {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new TombstoneCaffeineCache(name, cache, isAllowNullValues());
+            }
+        };
+        cacheManager.setCacheSpecification(clientsSpec);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.totvs.customermanagement.config;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries second-level cache invalidations between the application instances sharing a database.
+ * <p>
+ * Each {@link InvalidatingRegionFactory} publishes the entries its own writes change and evicts the entries
+ * published by the other instances. Deployments with several instances provide an implementation backed by
+ * their broker; {@link LocalCacheInvalidationBus} only reaches the session factories of the same JVM.
+ * </p>
+ */
+public interface CacheInvalidationBus {
+
+    void publish(Invalidation invalidation);
+
+    /**
+     * @param listener receives every published invalidation, including the ones of the subscriber itself
+     * @return cancels the subscription
+     */
+    Runnable subscribe(Consumer<Invalidation> listener);
+
+    /**
+     * @param node the instance whose write changed the entry
+     * @param region the cache region of the entry
+     * @param key the key of the entry, or {@code null} when the whole region was cleared
+     */
+    record Invalidation(String node, String region, Object key) {
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.totvs.customermanagement.config;
+
+import br.com.totvs.customermanagement.service.ClientChangeService;
+import br.com.totvs.customermanagement.service.FileClientChangeSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.nio.file.Path;
+
+@Configuration
+@EnableScheduling
+public class ClientChangeConfig {
+
+    /**
+     * Appends the changes published by {@link ClientChangeService} to a local file when
+     * {@code totvs.outbox.file} is set. Without a sink, changes are still published to the change feed.
+     *
+     * @param file the newline-delimited JSON file receiving the changes
+     * @param objectMapper the mapper writing each change
+     * @return the file sink
+     */
+    @Bean
+    @ConditionalOnProperty("totvs.outbox.file")
+    public FileClientChangeSink fileClientChangeSink(@Value("${totvs.outbox.file}") Path file,
+                                                     ObjectMapper objectMapper) {
+        return new FileClientChangeSink(file, objectMapper);
+    }
+}
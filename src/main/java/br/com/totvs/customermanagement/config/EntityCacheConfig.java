@@ -0,0 +1,49 @@
+package br.com.totvs.customermanagement.config;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "totvs.cache.entities.enabled", havingValue = "true")
+public class EntityCacheConfig {
+
+    /**
+     * @return the bus reaching the session factories of this JVM only; declare another {@link CacheInvalidationBus}
+     * bean to reach the other instances
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public CacheInvalidationBus cacheInvalidationBus() {
+        return new LocalCacheInvalidationBus();
+    }
+
+    /**
+     * Turns on the Hibernate second-level cache for the entities, collections and natural ids marked as cacheable,
+     * kept by an {@link InvalidatingRegionFactory}.
+     *
+     * @param bus the bus shared with the other instances
+     * @param maximumSize the maximum number of entries of each region
+     * @param expireAfterWrite the time an entry stays cached
+     * @return the customizer of the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(
+            CacheInvalidationBus bus,
+            @Value("${totvs.cache.entities.maximum-size:100000}") long maximumSize,
+            @Value("${totvs.cache.entities.expire-after-write:10m}") Duration expireAfterWrite) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY,
+                    new InvalidatingRegionFactory(bus, maximumSize, expireAfterWrite));
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+        };
+    }
+}
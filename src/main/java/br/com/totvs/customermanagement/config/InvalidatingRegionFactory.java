@@ -0,0 +1,167 @@
+package br.com.totvs.customermanagement.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the Hibernate second-level cache in Caffeine, through JCache, and in step with the other application
+ * instances.
+ * <p>
+ * Every region is bounded by size and time to live. Writes that change or remove an entry, including the soft
+ * locks taken before and the values stored after a commit, are published on the {@link CacheInvalidationBus},
+ * and entries published by other instances are evicted, so their next read goes to the database. Entries cached
+ * by reads are not published.
+ * </p>
+ */
+public class InvalidatingRegionFactory extends JCacheRegionFactory {
+
+    private final String node = UUID.randomUUID().toString();
+    private final Map<String, DomainDataStorageAccess> regions = new ConcurrentHashMap<>();
+    private final CacheInvalidationBus bus;
+    private final long maximumSize;
+    private final Duration expireAfterWrite;
+    private volatile Runnable subscription;
+
+    /**
+     * @param bus the bus shared with the other instances
+     * @param maximumSize the maximum number of entries of each region
+     * @param expireAfterWrite the time an entry stays cached
+     */
+    public InvalidatingRegionFactory(CacheInvalidationBus bus, long maximumSize, Duration expireAfterWrite) {
+        this.bus = bus;
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        super.prepareForUse(settings, configValues);
+        this.subscription = this.bus.subscribe(this::evict);
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        this.subscription.run();
+        this.regions.clear();
+        super.releaseFromUse();
+    }
+
+    /**
+     * Each factory gets its own cache manager, so two session factories of the same JVM never share entries.
+     */
+    @Override
+    protected CacheManager resolveCacheManager(SessionFactoryOptions settings, Map<String, Object> properties) {
+        CaffeineCachingProvider provider = (CaffeineCachingProvider) Caching.getCachingProvider(
+                CaffeineCachingProvider.class.getName());
+        return provider.getCacheManager(URI.create("totvs-entities-" + this.node), provider.getDefaultClassLoader());
+    }
+
+    @Override
+    protected Cache<Object, Object> createCache(String regionName) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(this.maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(this.expireAfterWrite.toNanos()));
+        return getCacheManager().createCache(regionName, configuration);
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        DomainDataStorageAccess storage = super.createDomainDataStorageAccess(regionConfig, buildingContext);
+        this.regions.put(regionConfig.getRegionName(), storage);
+        return new PublishingStorageAccess(regionConfig.getRegionName(), storage);
+    }
+
+    private void evict(CacheInvalidationBus.Invalidation invalidation) {
+        DomainDataStorageAccess storage = this.regions.get(invalidation.region());
+        if (storage == null || this.node.equals(invalidation.node())) {
+            return;
+        }
+        if (invalidation.key() == null) {
+            storage.evictData();
+        } else {
+            storage.evictData(invalidation.key());
+        }
+    }
+
+    private class PublishingStorageAccess implements DomainDataStorageAccess {
+
+        private final String region;
+        private final DomainDataStorageAccess storage;
+
+        PublishingStorageAccess(String region, DomainDataStorageAccess storage) {
+            this.region = region;
+            this.storage = storage;
+        }
+
+        @Override
+        public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+            this.storage.putFromLoad(key, value, session);
+        }
+
+        @Override
+        public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+            return this.storage.getFromCache(key, session);
+        }
+
+        @Override
+        public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+            this.storage.putIntoCache(key, value, session);
+            publish(key);
+        }
+
+        @Override
+        public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+            this.storage.removeFromCache(key, session);
+            publish(key);
+        }
+
+        @Override
+        public void clearCache(SharedSessionContractImplementor session) {
+            this.storage.clearCache(session);
+            publish(null);
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return this.storage.contains(key);
+        }
+
+        @Override
+        public void evictData() {
+            this.storage.evictData();
+            publish(null);
+        }
+
+        @Override
+        public void evictData(Object key) {
+            this.storage.evictData(key);
+            publish(key);
+        }
+
+        @Override
+        public void release() {
+            this.storage.release();
+        }
+
+        private void publish(Object key) {
+            bus.publish(new CacheInvalidationBus.Invalidation(node, this.region, key));
+        }
+    }
+}
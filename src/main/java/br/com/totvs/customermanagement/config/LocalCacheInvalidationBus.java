@@ -0,0 +1,24 @@
+package br.com.totvs.customermanagement.config;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers invalidations synchronously to the subscribers of the same JVM.
+ */
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final List<Consumer<Invalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(Invalidation invalidation) {
+        this.listeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    @Override
+    public Runnable subscribe(Consumer<Invalidation> listener) {
+        this.listeners.add(listener);
+        return () -> this.listeners.remove(listener);
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.totvs.customermanagement.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Wraps every data source in a proxy that times each statement and counts statements per thread.
+     * <p>
+     * The proxy unwraps to the pooled data source, so the Hikari pool metrics keep being published.
+     * </p>
+     *
+     * @param meterRegistry the registry of the statement timers, resolved on the first statement
+     * @return the post processor that wraps the data sources
+     */
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return instrument(beanName, dataSource, new StatementMetricsListener(meterRegistry::getObject));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Registers the filter that records and logs the number of statements executed per request.
+     *
+     * @param meterRegistry the registry of the per request summaries
+     * @param warnThreshold the number of statements above which a request is logged as a warning
+     * @return the filter
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public QueryCountFilter queryCountFilter(MeterRegistry meterRegistry,
+                                             @Value("${totvs.metrics.queries.warn-threshold:20}") long warnThreshold) {
+        return new QueryCountFilter(meterRegistry, warnThreshold);
+    }
+
+    static DataSource instrument(String name, DataSource dataSource, StatementMetricsListener listener) {
+        return ProxyDataSourceBuilder.create(name, dataSource)
+                .countQuery()
+                .listener(listener)
+                .build();
+    }
+}
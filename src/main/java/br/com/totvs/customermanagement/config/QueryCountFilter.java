@@ -0,0 +1,70 @@
+package br.com.totvs.customermanagement.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements executed while handling each request.
+ * <p>
+ * The count comes from the thread-bound {@link QueryCountHolder} filled by the data source proxy, so only
+ * statements run on the request thread are counted; the body of a streamed response runs later on another thread.
+ * Every count is recorded in the {@value #QUERIES_METRIC} summary by route, logged at debug level
+ * and logged as a warning above the configured threshold, which is how N+1 regressions show up.
+ * </p>
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERIES_METRIC = "totvs.http.server.queries";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final long warnThreshold;
+
+    public QueryCountFilter(MeterRegistry meterRegistry, long warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCountHolder.clear();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCount count = QueryCountHolder.getGrandTotal();
+            QueryCountHolder.clear();
+
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            DistributionSummary.builder(QUERIES_METRIC)
+                    .description("SQL statements executed per request")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .publishPercentileHistogram()
+                    .maximumExpectedValue(1000.0)
+                    .register(this.meterRegistry)
+                    .record(count.getTotal());
+
+            if (count.getTotal() > this.warnThreshold) {
+                LOGGER.warn("{} {} executed {} statements in {} ms", request.getMethod(), uri, count.getTotal(), count.getTime());
+            } else {
+                LOGGER.debug("{} {} executed {} statements in {} ms", request.getMethod(), uri, count.getTotal(), count.getTime());
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.totvs.customermanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.util.StringUtils;
+
+/**
+ * Lets the blocking JPA stack and the reactive R2DBC stack share the application context and the schema.
+ * <p>
+ * Spring Boot stops configuring the JDBC data source as soon as an R2DBC connection factory exists, so the
+ * Hikari pool used by JPA and Flyway is declared here from the usual {@code spring.datasource} properties.
+ * Each stack gets its own transaction manager; the JPA one is primary, so {@code @Transactional} keeps meaning
+ * a JPA transaction, while the reactive service demarcates its transactions with a {@code TransactionalOperator}.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class R2dbcConfig {
+
+    /**
+     * @param properties the {@code spring.datasource} properties
+     * @return the pooled JDBC data source, also configured by the {@code spring.datasource.hikari} properties
+     */
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        if (StringUtils.hasText(properties.getName())) {
+            dataSource.setPoolName(properties.getName());
+        }
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    @Bean
+    public ReactiveTransactionManager reactiveTransactionManager(ConnectionFactory connectionFactory) {
+        return new R2dbcTransactionManager(connectionFactory);
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.totvs.customermanagement.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Serves the application on Reactor Netty when it runs as a reactive web application, which the {@code reactive}
+ * profile selects.
+ * <p>
+ * Only the R2DBC routes of {@code ReactiveClientController} are mapped then. Netty writes each element of a
+ * streamed response once the connection can take it and only then requests the next one, so a slow client holds
+ * no thread. Spring Boot would otherwise pick Tomcat, which is also on the class path for the servlet API.
+ * </p>
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWebConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,147 @@
+package br.com.totvs.customermanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.TransactionDefinition;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends read-only transactions to replica pools and everything else to the primary.
+ * <p>
+ * The primary {@code dataSource} bean is wrapped in a {@link LazyConnectionDataSourceProxy}, which only fetches
+ * a connection on the first statement, once the transaction manager has marked the connection read-only.
+ * Read-only connections then come from {@link ReadReplicas}, the others from the primary pool. Flyway, the
+ * reactive stack and every read-write transaction keep using the primary.
+ * </p>
+ * <p>
+ * What a replica returns may be up to {@code max-lag} old, so it must not outlive the transaction: read-only
+ * transactions only read the Hibernate second-level cache and never put into it, the clients cache does not keep
+ * what was loaded from a replica, and the in-memory index loads run in read-write transactions on the primary.
+ * </p>
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "totvs.datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    private static final String PRIMARY_DATA_SOURCE = "dataSource";
+
+    /**
+     * @param urls the JDBC URLs of the replicas
+     * @param username the user of the replicas, the primary one by default
+     * @param password the password of the replicas, the primary one by default
+     * @param maximumPoolSize the maximum number of connections of each replica pool
+     * @param maxLag the replication lag above which a replica stops receiving reads
+     * @param lagQuery the query returning the replication lag of a replica in seconds
+     * @param meterRegistry the registry of the replica pool metrics, if any
+     * @return the replica pools
+     */
+    @Bean
+    public ReadReplicas readReplicas(
+            @Value("${totvs.datasource.replicas.urls}") List<String> urls,
+            @Value("${totvs.datasource.replicas.username:${spring.datasource.username:}}") String username,
+            @Value("${totvs.datasource.replicas.password:${spring.datasource.password:}}") String password,
+            @Value("${totvs.datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${totvs.datasource.replicas.max-lag:5s}") Duration maxLag,
+            @Value("${totvs.datasource.replicas.lag-query}") String lagQuery,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        List<ReadReplicas.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + i);
+            pool.setJdbcUrl(urls.get(i));
+            pool.setUsername(username);
+            pool.setPassword(password);
+            pool.setMaximumPoolSize(maximumPoolSize);
+            pool.setReadOnly(true);
+            meterRegistry.ifAvailable(pool::setMetricRegistry);
+            replicas.add(new ReadReplicas.Replica(pool.getPoolName(), pool));
+        }
+        return new ReadReplicas(replicas, maxLag, lagQuery);
+    }
+
+    /**
+     * Wraps the primary data source before the metrics proxy does, so the statements run on the replicas are
+     * timed too, and gives the JPA transaction manager a {@link ReplicaJpaDialect}.
+     *
+     * @param readReplicas the replica pools, resolved when the primary data source is created
+     * @return the post processor that wraps the primary data source and sets the dialect
+     */
+    @Bean
+    public static BeanPostProcessor readReplicaRoutingPostProcessor(ObjectProvider<ReadReplicas> readReplicas) {
+        return new RoutingPostProcessor(readReplicas);
+    }
+
+    private record RoutingPostProcessor(ObjectProvider<ReadReplicas> readReplicas) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (PRIMARY_DATA_SOURCE.equals(beanName) && bean instanceof DataSource primary) {
+                LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+                routing.setReadOnlyDataSource(this.readReplicas.getObject().route(primary));
+                return routing;
+            }
+            if (bean instanceof JpaTransactionManager transactionManager) {
+                transactionManager.setJpaDialect(new ReplicaJpaDialect());
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+
+    /**
+     * Switches the session of read-only transactions to {@link CacheMode#GET}, so the entities and collections they
+     * read, possibly from a lagging replica, are not put into the second-level cache.
+     */
+    static final class ReplicaJpaDialect extends HibernateJpaDialect {
+
+        @Override
+        public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+                throws SQLException {
+            Object transactionData = super.beginTransaction(entityManager, definition);
+            if (!definition.isReadOnly()) {
+                return transactionData;
+            }
+            Session session = entityManager.unwrap(Session.class);
+            CacheMode previousCacheMode = session.getCacheMode();
+            session.setCacheMode(CacheMode.GET);
+            return new ReadOnlyTransactionData(transactionData, session, previousCacheMode);
+        }
+
+        @Override
+        public void cleanupTransaction(Object transactionData) {
+            if (transactionData instanceof ReadOnlyTransactionData readOnly) {
+                readOnly.session().setCacheMode(readOnly.previousCacheMode());
+                super.cleanupTransaction(readOnly.transactionData());
+            } else {
+                super.cleanupTransaction(transactionData);
+            }
+        }
+
+        private record ReadOnlyTransactionData(Object transactionData, Session session, CacheMode previousCacheMode) {
+        }
+    }
+}
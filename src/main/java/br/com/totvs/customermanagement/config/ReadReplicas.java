@@ -0,0 +1,187 @@
+package br.com.totvs.customermanagement.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The replica pools that serve read-only transactions, see {@link ReadReplicaConfig}.
+ * <p>
+ * Every replica is checked on a fixed delay, starting right after the application starts, by running the lag query,
+ * which returns the replication lag in seconds. A replica that cannot be reached, returns no lag or lags more than the
+ * allowed maximum stops receiving reads until a later check finds it healthy again, and a replica that fails to give
+ * a connection is taken out right away. Reads are spread round robin over the available replicas and go to the
+ * primary when none is available.
+ * </p>
+ * <p>
+ * Each thread counts the replica connections it was given, so a cache can tell whether a value it loaded may lag
+ * behind the primary, see {@link #replicaConnections()}.
+ * </p>
+ */
+public final class ReadReplicas implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadReplicas.class);
+    private static final ThreadLocal<int[]> REPLICA_CONNECTIONS = new ThreadLocal<>();
+
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * @param replicas the replica pools, by name
+     * @param maxLag the replication lag above which a replica stops receiving reads
+     * @param lagQuery the query returning the replication lag of a replica in seconds
+     */
+    public ReadReplicas(List<Replica> replicas, Duration maxLag, String lagQuery) {
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+    }
+
+    /**
+     * @param primary the data source to fall back to
+     * @return a data source handing out connections of the available replicas, or of the primary when none is
+     */
+    public DataSource route(DataSource primary) {
+        return new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return connect(primary, null, null);
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return connect(primary, username, password);
+            }
+        };
+    }
+
+    /**
+     * Measures the lag of every replica and updates the replicas receiving reads.
+     */
+    @Scheduled(fixedDelayString = "${totvs.datasource.replicas.check-delay-ms:5000}",
+            initialDelay = 0)
+    public void checkReplicas() {
+        for (Replica replica : this.replicas) {
+            boolean wasAvailable = replica.available;
+            try (Connection connection = replica.dataSource().getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet lag = statement.executeQuery(this.lagQuery)) {
+                Duration replicaLag = replicationLag(lag);
+                replica.available = replicaLag != null && replicaLag.compareTo(this.maxLag) <= 0;
+                if (wasAvailable && replicaLag == null) {
+                    LOGGER.warn("Replica {} returned no lag, reads go to the other replicas", replica.name());
+                } else if (wasAvailable && !replica.available) {
+                    LOGGER.warn("Replica {} lags {}, reads go to the other replicas", replica.name(), replicaLag);
+                }
+            } catch (SQLException e) {
+                replica.available = false;
+                if (wasAvailable) {
+                    LOGGER.warn("Replica {} is unreachable, reads go to the other replicas", replica.name(), e);
+                }
+            }
+            if (!wasAvailable && replica.available) {
+                LOGGER.info("Replica {} is receiving reads", replica.name());
+            }
+        }
+    }
+
+    /**
+     * @return the names of the replicas receiving reads
+     */
+    public List<String> availableReplicas() {
+        return this.replicas.stream().filter(replica -> replica.available).map(Replica::name).toList();
+    }
+
+    /**
+     * @return the number of replica connections given to the current thread so far; it changes across some work
+     *         only if that work read from a replica
+     */
+    static int replicaConnections() {
+        int[] count = REPLICA_CONNECTIONS.get();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : this.replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    /**
+     * @return the lag in the first column of the first row, or {@code null} when there is no row or the lag is null
+     */
+    private static Duration replicationLag(ResultSet lag) throws SQLException {
+        if (!lag.next()) {
+            return null;
+        }
+        double seconds = lag.getDouble(1);
+        return lag.wasNull() ? null : Duration.ofMillis(Math.round(seconds * 1000));
+    }
+
+    private Connection connect(DataSource primary, String username, String password) throws SQLException {
+        int size = this.replicas.size();
+        int start = Math.floorMod(this.next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = this.replicas.get((start + i) % size);
+            if (!replica.available) {
+                continue;
+            }
+            try {
+                Connection connection = username == null ? replica.dataSource().getConnection()
+                        : replica.dataSource().getConnection(username, password);
+                countReplicaConnection();
+                return connection;
+            } catch (SQLException e) {
+                replica.available = false;
+                LOGGER.warn("Replica {} gave no connection, reads go to the other replicas", replica.name(), e);
+            }
+        }
+        return username == null ? primary.getConnection() : primary.getConnection(username, password);
+    }
+
+    private static void countReplicaConnection() {
+        int[] count = REPLICA_CONNECTIONS.get();
+        if (count == null) {
+            REPLICA_CONNECTIONS.set(count = new int[1]);
+        }
+        count[0]++;
+    }
+
+    /**
+     * A replica pool. Replicas start out of the rotation until a check finds them healthy.
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return this.name;
+        }
+
+        public DataSource dataSource() {
+            return this.dataSource;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.totvs.customermanagement.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Records every JDBC execution in the {@value #STATEMENTS_METRIC} timer, tagged by statement type,
+ * whether it was a batch and whether it succeeded.
+ */
+public class StatementMetricsListener implements QueryExecutionListener {
+
+    public static final String STATEMENTS_METRIC = "totvs.db.statements";
+
+    private final Supplier<MeterRegistry> meterRegistrySupplier;
+    private volatile MeterRegistry meterRegistry;
+
+    /**
+     * @param meterRegistry supplies the registry on first use, so the data source does not force its creation
+     */
+    public StatementMetricsListener(Supplier<MeterRegistry> meterRegistry) {
+        this.meterRegistrySupplier = meterRegistry;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryType type = queryInfoList.isEmpty() ? QueryType.OTHER : QueryUtils.getQueryType(queryInfoList.get(0).getQuery());
+
+        Timer.builder(STATEMENTS_METRIC)
+                .description("JDBC statement executions")
+                .tag("type", type.name().toLowerCase(Locale.ROOT))
+                .tag("batch", String.valueOf(execInfo.isBatch()))
+                .tag("outcome", execInfo.isSuccess() ? "success" : "failure")
+                .register(meterRegistry())
+                .record(execInfo.getElapsedTime(), TimeUnit.MILLISECONDS);
+    }
+
+    private MeterRegistry meterRegistry() {
+        MeterRegistry registry = this.meterRegistry;
+        if (registry == null) {
+            registry = this.meterRegistrySupplier.get();
+            this.meterRegistry = registry;
+        }
+        return registry;
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.totvs.customermanagement.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link CaffeineCache} that never keeps a value read before the last eviction of its key.
+ * <p>
+ * An eviction leaves a tombstone in place of the value, and a clear starts a new generation. A miss loaded through
+ * {@link #get(Object, Callable)} runs the loader without holding any lock and only stores the value if the entry
+ * still holds what it held before the loader ran and no clear happened meanwhile. A read that raced with a write,
+ * and may have seen the row as it was before the write committed, is returned but not kept.
+ * </p>
+ * <p>
+ * A value loaded from a read replica is returned but not kept either: the replica may not have applied a write that
+ * already evicted the key, see {@link ReadReplicas#replicaConnections()}.
+ * </p>
+ * <p>
+ * Tombstones count towards the maximum size and expire like values. Finding one counts as a hit in the Caffeine
+ * statistics, although the value is loaded again.
+ * </p>
+ */
+final class TombstoneCaffeineCache extends CaffeineCache {
+
+    private final AtomicLong generation = new AtomicLong();
+
+    TombstoneCaffeineCache(String name, Cache<Object, Object> cache, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = super.lookup(key);
+        return value instanceof Tombstone ? null : value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object observed = getNativeCache().getIfPresent(key);
+        if (observed != null && !(observed instanceof Tombstone)) {
+            return (T) fromStoreValue(observed);
+        }
+
+        long loadGeneration = this.generation.get();
+        int replicaConnections = ReadReplicas.replicaConnections();
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (ReadReplicas.replicaConnections() != replicaConnections) {
+            return value;
+        }
+
+        ConcurrentMap<Object, Object> entries = getNativeCache().asMap();
+        Object stored = toStoreValue(value);
+        boolean kept = observed == null
+                ? entries.putIfAbsent(key, stored) == null
+                : entries.replace(key, observed, stored);
+        // A clear that ran after the generation was read may have missed the value stored right above
+        if (kept && this.generation.get() != loadGeneration) {
+            entries.remove(key, stored);
+        }
+        return value;
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ConcurrentMap<Object, Object> entries = getNativeCache().asMap();
+        Object stored = toStoreValue(value);
+        Object previous = entries.putIfAbsent(key, stored);
+        while (previous instanceof Tombstone && !entries.replace(key, previous, stored)) {
+            previous = entries.putIfAbsent(key, stored);
+        }
+        return previous instanceof Tombstone ? null : toValueWrapper(previous);
+    }
+
+    @Override
+    public void evict(Object key) {
+        getNativeCache().put(key, new Tombstone());
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        Object previous = getNativeCache().asMap().put(key, new Tombstone());
+        return previous != null && !(previous instanceof Tombstone);
+    }
+
+    @Override
+    public void clear() {
+        this.generation.incrementAndGet();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        this.generation.incrementAndGet();
+        return super.invalidate();
+    }
+
+    /**
+     * Marks an evicted key; every eviction creates its own, so a load can tell whether another one happened.
+     */
+    private static final class Tombstone {
+    }
+}
@@ -1,36 +1,80 @@
 package br.com.totvs.customermanagement.controller;
 
 import br.com.totvs.customermanagement.model.Client;
+import br.com.totvs.customermanagement.payload.request.ClientDeleteRequestPayload;
+import br.com.totvs.customermanagement.payload.request.ClientPatchRequestPayload;
 import br.com.totvs.customermanagement.payload.request.ClientRequestPayload;
+import br.com.totvs.customermanagement.payload.request.ClientSearchRequestPayload;
+import br.com.totvs.customermanagement.payload.response.ClientChangesPayload;
+import br.com.totvs.customermanagement.payload.response.ClientDeleteResponsePayload;
+import br.com.totvs.customermanagement.payload.response.ClientPageResponsePayload;
 import br.com.totvs.customermanagement.payload.response.ClientResponsePayload;
+import br.com.totvs.customermanagement.payload.response.ClientSuggestionPayload;
+import br.com.totvs.customermanagement.payload.response.ImportResponsePayload;
+import br.com.totvs.customermanagement.service.ClientChangeService;
+import br.com.totvs.customermanagement.service.ClientImportService;
 import br.com.totvs.customermanagement.service.ClientService;
+import br.com.totvs.customermanagement.service.ClientTypeaheadService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/totvs/clients")
 @CrossOrigin(origins = "http://localhost:4200")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ClientController {
 
+    private static final int STREAM_CHUNK_SIZE = 500;
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     private final ClientService clientService;
+    private final ClientImportService clientImportService;
+    private final ClientTypeaheadService clientTypeaheadService;
+    private final ClientChangeService clientChangeService;
+    private final ObjectWriter ndjsonWriter;
 
-    public ClientController(ClientService clientService) {
+    public ClientController(ClientService clientService, ClientImportService clientImportService,
+                            ClientTypeaheadService clientTypeaheadService, ClientChangeService clientChangeService,
+                            ObjectMapper objectMapper) {
         this.clientService = clientService;
+        this.clientImportService = clientImportService;
+        this.clientTypeaheadService = clientTypeaheadService;
+        this.clientChangeService = clientChangeService;
+        this.ndjsonWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     @Operation(summary = "Create a new client")
@@ -42,6 +86,20 @@ public class ClientController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(summary = "Import clients in bulk from newline-delimited JSON or CSV")
+    @ApiResponse(responseCode = "200", description = "Import finished, rejected records are listed in the response")
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE})
+    public ResponseEntity<ImportResponsePayload> importClients(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws IOException {
+        ClientImportService.Format format = contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? ClientImportService.Format.NDJSON : ClientImportService.Format.CSV;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body,
+                contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8))) {
+            return ResponseEntity.ok(this.clientImportService.importClients(reader, format));
+        }
+    }
+
     @Operation(summary = "Get client by CPF")
     @ApiResponse(responseCode = "200", description = "Client returned successfully")
     @GetMapping("/{cpf}")
@@ -52,12 +110,78 @@ public class ClientController {
 
     @Operation(summary = "Get all clients")
     @ApiResponse(responseCode = "200", description = "List of clients returned successfully")
-    @GetMapping
+    @GetMapping(params = {"!cursor", "!limit"})
     public ResponseEntity<List<ClientResponsePayload>> getAllClients() {
         List<ClientResponsePayload> response = this.clientService.getAllClients();
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Get a page of clients ordered by CPF")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page of clients returned successfully"),
+            @ApiResponse(responseCode = "400", description = "Cursor is not a CPF")
+    })
+    @GetMapping
+    public ResponseEntity<ClientPageResponsePayload> getClientsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + ClientService.DEFAULT_PAGE_SIZE) int limit) {
+        ClientPageResponsePayload response = this.clientService.getClientsPage(cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Search clients by name prefix, phone prefix, city, state and zip code")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page of matching clients returned successfully"),
+            @ApiResponse(responseCode = "400", description = "Cursor is not a CPF")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<ClientPageResponsePayload> searchClients(
+            @ParameterObject ClientSearchRequestPayload criteria,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + ClientService.DEFAULT_PAGE_SIZE) int limit) {
+        ClientPageResponsePayload response = this.clientService.searchClients(criteria, cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Suggest clients by the beginning of a name word or phone number, for search-as-you-type")
+    @ApiResponse(responseCode = "200", description = "Suggested clients returned successfully")
+    @GetMapping("/typeahead")
+    public ResponseEntity<List<ClientSuggestionPayload>> suggestClients(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "" + ClientTypeaheadService.DEFAULT_SUGGESTIONS) int limit) {
+        List<ClientSuggestionPayload> response = this.clientTypeaheadService.suggestClients(q, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Get the client changes published after a token, to sync deltas instead of re-reading all clients")
+    @ApiResponse(responseCode = "200", description = "Changes returned in publication order")
+    @GetMapping("/changes")
+    public ResponseEntity<ClientChangesPayload> getChanges(
+            @RequestParam(required = false) Long since,
+            @RequestParam(defaultValue = "" + ClientChangeService.DEFAULT_CHANGES) int limit) {
+        ClientChangesPayload response = this.clientChangeService.getChanges(since, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Stream all clients as newline-delimited JSON")
+    @ApiResponse(responseCode = "200", description = "Clients streamed successfully")
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllClients() {
+        StreamingResponseBody body = outputStream -> {
+            String cursor = null;
+            do {
+                ClientPageResponsePayload page = this.clientService.getClientsPage(cursor, STREAM_CHUNK_SIZE);
+                for (ClientResponsePayload client : page.clients()) {
+                    this.ndjsonWriter.writeValue(outputStream, client);
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+                cursor = page.next();
+            } while (cursor != null);
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @Operation(summary = "Update a client by ID")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Client updated successfully"),
@@ -71,6 +195,19 @@ public class ClientController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Partially update a client by ID")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Client updated successfully"),
+            @ApiResponse(responseCode = "404", description = "Client not found")
+    })
+    @PatchMapping("/{cpf}")
+    public ResponseEntity<ClientResponsePayload> patchClient(
+            @PathVariable String cpf,
+            @Valid @RequestBody ClientPatchRequestPayload payload) {
+        ClientResponsePayload response = this.clientService.patchClient(cpf, payload);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "Delete a client by ID")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "Client deleted successfully"),
@@ -81,4 +218,14 @@ public class ClientController {
         this.clientService.deleteClient(cpf);
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(summary = "Delete clients in bulk by CPF")
+    @ApiResponse(responseCode = "200", description = "Clients deleted, CPFs without a client are ignored")
+    @DeleteMapping
+    public ResponseEntity<ClientDeleteResponsePayload> deleteClients(
+            @Valid @RequestBody ClientDeleteRequestPayload payload) {
+        Set<String> cpfs = new LinkedHashSet<>(payload.cpfs());
+        int deleted = this.clientService.deleteClients(cpfs);
+        return ResponseEntity.ok(new ClientDeleteResponsePayload(cpfs.size(), deleted));
+    }
 }
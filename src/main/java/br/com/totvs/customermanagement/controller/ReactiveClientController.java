@@ -0,0 +1,120 @@
+package br.com.totvs.customermanagement.controller;
+
+import br.com.totvs.customermanagement.payload.request.ClientPatchRequestPayload;
+import br.com.totvs.customermanagement.payload.request.ClientRequestPayload;
+import br.com.totvs.customermanagement.payload.response.ClientPageResponsePayload;
+import br.com.totvs.customermanagement.payload.response.ClientResponsePayload;
+import br.com.totvs.customermanagement.service.ClientService;
+import br.com.totvs.customermanagement.service.ReactiveClientService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of {@link ClientController}, with the same payloads and rules.
+ * <p>
+ * It is only mapped when the application runs as a reactive web application on Netty, with the {@code reactive}
+ * profile, so that no thread waits on the database or on the client. The list endpoint writes newline-delimited
+ * JSON and Netty only requests more clients once the previous ones have been written to the connection, so a slow
+ * client slows down the reads instead of filling memory or holding a thread.
+ * </p>
+ */
+@RestController
+@RequestMapping("/totvs/reactive/clients")
+@CrossOrigin(origins = "http://localhost:4200")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveClientController {
+
+    private final ReactiveClientService clientService;
+
+    public ReactiveClientController(ReactiveClientService clientService) {
+        this.clientService = clientService;
+    }
+
+    @Operation(summary = "Create a new client")
+    @ApiResponse(responseCode = "201", description = "Client created successfully")
+    @PostMapping
+    public Mono<ResponseEntity<ClientResponsePayload>> createClient(
+            @Valid @RequestBody ClientRequestPayload clientRequestPayload) {
+        return this.clientService.createClient(clientRequestPayload)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    @Operation(summary = "Get client by CPF")
+    @ApiResponse(responseCode = "200", description = "Client returned successfully")
+    @GetMapping("/{cpf}")
+    public Mono<ClientResponsePayload> getClientByCpf(@PathVariable String cpf) {
+        return this.clientService.getClientByCpf(cpf);
+    }
+
+    @Operation(summary = "Stream all clients as newline-delimited JSON")
+    @ApiResponse(responseCode = "200", description = "Clients streamed successfully")
+    @GetMapping(params = {"!cursor", "!limit"}, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ClientResponsePayload> getAllClients() {
+        return this.clientService.streamClients(ClientService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Operation(summary = "Get a page of clients ordered by CPF")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page of clients returned successfully"),
+            @ApiResponse(responseCode = "400", description = "Cursor is not a CPF")
+    })
+    @GetMapping
+    public Mono<ClientPageResponsePayload> getClientsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + ClientService.DEFAULT_PAGE_SIZE) int limit) {
+        return this.clientService.getClientsPage(cursor, limit);
+    }
+
+    @Operation(summary = "Update a client by ID")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Client updated successfully"),
+            @ApiResponse(responseCode = "404", description = "Client not found")
+    })
+    @PutMapping("/{cpf}")
+    public Mono<ClientResponsePayload> updateClient(
+            @PathVariable String cpf,
+            @Valid @RequestBody ClientRequestPayload payload) {
+        return this.clientService.updateClient(cpf, payload);
+    }
+
+    @Operation(summary = "Partially update a client by ID")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Client updated successfully"),
+            @ApiResponse(responseCode = "404", description = "Client not found")
+    })
+    @PatchMapping("/{cpf}")
+    public Mono<ClientResponsePayload> patchClient(
+            @PathVariable String cpf,
+            @Valid @RequestBody ClientPatchRequestPayload payload) {
+        return this.clientService.patchClient(cpf, payload);
+    }
+
+    @Operation(summary = "Delete a client by ID")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Client deleted successfully"),
+            @ApiResponse(responseCode = "404", description = "Client not found")
+    })
+    @DeleteMapping("/{cpf}")
+    public Mono<ResponseEntity<Void>> deleteClient(@PathVariable String cpf) {
+        return this.clientService.deleteClient(cpf).then(Mono.just(ResponseEntity.noContent().build()));
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.totvs.customermanagement.exception;
+
+public class InvalidCursorException extends TotvsException {
+    public InvalidCursorException(String cursor) {
+        super("Cursor " + cursor + " is invalid, it must be the CPF returned as the next cursor of a page");
+    }
+}
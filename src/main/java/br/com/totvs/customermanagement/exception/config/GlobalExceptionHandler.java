@@ -1,16 +1,30 @@
 package br.com.totvs.customermanagement.exception.config;
 
+import br.com.totvs.customermanagement.exception.InvalidCursorException;
 import br.com.totvs.customermanagement.exception.TotvsException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(TotvsException.class)
     public ResponseEntity<String> handleCpfAlreadyExists(TotvsException e) {
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        String message = Stream.concat(Stream.of(e), Arrays.stream(e.getSuppressed()))
+                .filter(TotvsException.class::isInstance)
+                .map(Throwable::getMessage)
+                .collect(Collectors.joining("; "));
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(message);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<String> handleInvalidCursor(InvalidCursorException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
     }
 }
@@ -1,10 +1,12 @@
 package br.com.totvs.customermanagement.model;
 
+import br.com.totvs.customermanagement.model.converter.CpfConverter;
+import br.com.totvs.customermanagement.model.generator.TimeOrderedUuidGenerator;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
@@ -14,34 +16,56 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.UuidGenerator;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "clients")
+@Table(name = "clients", uniqueConstraints = {
+        @UniqueConstraint(name = Client.CPF_UNIQUE_CONSTRAINT, columnNames = "cpf"),
+        @UniqueConstraint(name = Client.NAME_UNIQUE_CONSTRAINT, columnNames = "name")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 public class Client {
 
+    public static final String CPF_UNIQUE_CONSTRAINT = "clients_cpf_key";
+    public static final String NAME_UNIQUE_CONSTRAINT = "uk_clients_name";
+    public static final String PHONES_ROLE = "br.com.totvs.customermanagement.model.Client.phones";
+    public static final String ADDRESSES_ROLE = "br.com.totvs.customermanagement.model.Client.addresses";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
     @Column(updatable = false, nullable = false)
     private UUID id;
 
     @Column(nullable = false)
     private String name;
 
-    @Column(nullable = false, unique = true, length = 11)
+    @NaturalId(mutable = true)
+    @Column(nullable = false)
+    @Convert(converter = CpfConverter.class)
     private String cpf;
 
     @OneToMany(mappedBy = "client", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<Phone> phones;
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @Builder.Default
+    private List<Phone> phones = new ArrayList<>();
 
     @OneToMany(mappedBy = "client", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<Address> addresses;
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @Builder.Default
+    private List<Address> addresses = new ArrayList<>();
 }
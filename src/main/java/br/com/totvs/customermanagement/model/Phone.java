@@ -1,40 +1,70 @@
 package br.com.totvs.customermanagement.model;
 
+import br.com.totvs.customermanagement.model.generator.TimeOrderedUuidGenerator;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.PartitionKey;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.util.UUID;
 
 @Entity
-@Table(name = "phones", uniqueConstraints = @UniqueConstraint(columnNames = "number"))
+@Table(name = "phones",
+        uniqueConstraints = @UniqueConstraint(name = Phone.NUMBER_UNIQUE_CONSTRAINT, columnNames = "number"),
+        indexes = @Index(name = "idx_phones_client_id_number", columnList = "client_id, number"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Phone {
 
+    public static final String NUMBER_UNIQUE_CONSTRAINT = "phones_number_key";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
     private UUID id;
 
-    @Column(nullable = false, unique = true, length = 20)
+    @Column(nullable = false, length = 20)
     private String number;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "client_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Client client;
+
+    /**
+     * The {@code client_id} hash partition key of the table, written through {@link #client}. Hibernate adds it
+     * to the updates and deletes of the row, so they only touch the partition holding it.
+     */
+    @PartitionKey
+    @Column(name = "client_id", insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private UUID clientId;
+
+    @PrePersist
+    void assignClientId() {
+        this.clientId = this.client.getId();
+    }
 }
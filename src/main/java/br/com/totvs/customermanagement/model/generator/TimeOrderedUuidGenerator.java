@@ -0,0 +1,18 @@
+package br.com.totvs.customermanagement.model.generator;
+
+import br.com.totvs.customermanagement.util.UuidUtil;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.util.UUID;
+
+/**
+ * Generates entity identifiers with {@link UuidUtil#timeOrdered()}, keeping primary key inserts in creation order.
+ */
+public class TimeOrderedUuidGenerator implements UuidValueGenerator {
+
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        return UuidUtil.timeOrdered();
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.totvs.customermanagement.model.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.util.UUID;
+
+/**
+ * Row of the {@code addresses} table as read by the R2DBC repositories.
+ */
+@Table("addresses")
+public record AddressRow(@Id UUID id, String street, String complement, String city, String state, String zipCode,
+                         UUID clientId) {
+}
@@ -0,0 +1,14 @@
+package br.com.totvs.customermanagement.model.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.util.UUID;
+
+/**
+ * Row of the {@code clients} table as read by the R2DBC repositories,
+ * with the CPF as stored, see {@link br.com.totvs.customermanagement.util.NumberUtil#parseCpf(CharSequence)}.
+ */
+@Table("clients")
+public record ClientRow(@Id UUID id, String name, long cpf) {
+}
@@ -0,0 +1,27 @@
+package br.com.totvs.customermanagement.model.reactive;
+
+import br.com.totvs.customermanagement.repository.projection.ClientConflictRow;
+import br.com.totvs.customermanagement.util.NumberUtil;
+
+/**
+ * Row read by {@code ReactiveClientRepository#findConflicts} and {@code ClientRepository#findConflicts}.
+ * Both run the query in SQL, as the phone numbers are read from a table that depends on the database, and map each
+ * row into this record.
+ */
+public record ConflictRow(String kind, String conflictingValue, long ownerCpf) implements ClientConflictRow {
+
+    @Override
+    public String getKind() {
+        return this.kind;
+    }
+
+    @Override
+    public String getConflictingValue() {
+        return this.conflictingValue;
+    }
+
+    @Override
+    public String getOwnerCpf() {
+        return NumberUtil.formatCpf(this.ownerCpf);
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.totvs.customermanagement.model.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.util.UUID;
+
+/**
+ * Row of the {@code phones} table as read by the R2DBC repositories.
+ */
+@Table("phones")
+public record PhoneRow(@Id UUID id, String number, UUID clientId) {
+}
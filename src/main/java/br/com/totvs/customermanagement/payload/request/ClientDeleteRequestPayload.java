@@ -0,0 +1,16 @@
+package br.com.totvs.customermanagement.payload.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+@Schema(description = "Payload to delete clients in bulk")
+public record ClientDeleteRequestPayload(
+
+        @NotEmpty
+        @Schema(description = "CPFs of the clients to delete", example = "[\"12345678909\", \"52998224725\"]")
+        List<@NotBlank String> cpfs
+) {
+}
@@ -0,0 +1,30 @@
+package br.com.totvs.customermanagement.payload.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Payload to partially update a client, absent fields are left unchanged")
+public record ClientPatchRequestPayload(
+
+        @Size(min = 10, max = 255)
+        @Pattern(regexp = "(?s).*\\S.*", message = "must not be blank")
+        @Schema(description = "Full name of the client", example = "Matheus Pires")
+        String name,
+
+        @Size(min=11, max=11)
+        @Pattern(regexp = "\\d{11}", message = "CPF must have exactly 11 digits")
+        @Schema(description = "CPF of the client", example = "12345678901")
+        String cpf,
+
+        @Size(min = 1)
+        @Schema(description = "List of phone numbers replacing the current ones", minLength = 1)
+        List<PhoneRequestPayload> phones,
+
+        @Size(min = 1)
+        @Schema(description = "List of addresses replacing the current ones", minLength = 1)
+        List<AddressRequestPayload> addresses
+) {
+}
@@ -0,0 +1,23 @@
+package br.com.totvs.customermanagement.payload.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Client search criteria; absent criteria are ignored and the present ones must all match")
+public record ClientSearchRequestPayload(
+
+        @Schema(description = "Beginning of the client name, in any case", example = "mat")
+        String name,
+
+        @Schema(description = "Beginning of one of the client phone numbers", example = "11912")
+        String phone,
+
+        @Schema(description = "City of one of the client addresses, in any case", example = "Goiânia")
+        String city,
+
+        @Schema(description = "State of one of the client addresses, in any case", example = "Goiás")
+        String state,
+
+        @Schema(description = "Zip code of one of the client addresses", example = "74860405")
+        String zipCode
+) {
+}
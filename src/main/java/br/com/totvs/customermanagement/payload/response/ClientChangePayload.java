@@ -0,0 +1,30 @@
+package br.com.totvs.customermanagement.payload.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "Response payload representing a committed change to a client")
+public record ClientChangePayload(
+
+        @Schema(description = "Position of the change in the feed, usable as the since token", example = "42")
+        String token,
+
+        @Schema(description = "Kind of change")
+        Type type,
+
+        @Schema(description = "CPF of the client before the change, absent when the client was created",
+                example = "12345678909")
+        String previousCpf,
+
+        @Schema(description = "Client after the change, absent when the client was deleted")
+        ClientResponsePayload client,
+
+        @Schema(description = "Time the change was committed")
+        Instant changedAt
+) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
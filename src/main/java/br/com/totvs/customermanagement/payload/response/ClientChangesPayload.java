@@ -0,0 +1,17 @@
+package br.com.totvs.customermanagement.payload.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Response payload representing the client changes after a token, in commit order")
+public record ClientChangesPayload(
+
+        @Schema(description = "Changes after the requested token")
+        List<ClientChangePayload> changes,
+
+        @Schema(description = "Token to request the following changes, the requested one when there are none",
+                example = "42")
+        String next
+) {
+}
@@ -0,0 +1,14 @@
+package br.com.totvs.customermanagement.payload.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Response payload summarizing a bulk delete")
+public record ClientDeleteResponsePayload(
+
+        @Schema(description = "Number of distinct CPFs received", example = "5000")
+        int requested,
+
+        @Schema(description = "Number of clients deleted; CPFs without a client are ignored", example = "4990")
+        int deleted
+) {
+}
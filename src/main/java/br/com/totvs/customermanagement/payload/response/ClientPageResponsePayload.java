@@ -0,0 +1,16 @@
+package br.com.totvs.customermanagement.payload.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Response payload representing a page of clients ordered by CPF")
+public record ClientPageResponsePayload(
+
+        @Schema(description = "Clients in this page")
+        List<ClientResponsePayload> clients,
+
+        @Schema(description = "Cursor to request the next page, absent on the last page", example = "12345678909")
+        String next
+) {
+}
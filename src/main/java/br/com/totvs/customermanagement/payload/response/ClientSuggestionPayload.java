@@ -0,0 +1,14 @@
+package br.com.totvs.customermanagement.payload.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Response payload representing a client suggested while typing")
+public record ClientSuggestionPayload(
+
+        @Schema(description = "Client name", example = "Matheus Pires")
+        String name,
+
+        @Schema(description = "Client CPF", example = "12345678909")
+        String cpf
+) {
+}
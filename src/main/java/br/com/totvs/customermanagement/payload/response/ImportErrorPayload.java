@@ -0,0 +1,17 @@
+package br.com.totvs.customermanagement.payload.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Response payload describing a record rejected by a bulk import")
+public record ImportErrorPayload(
+
+        @Schema(description = "Line of the record in the imported file", example = "42")
+        long line,
+
+        @Schema(description = "CPF of the rejected record, when it could be read", example = "12345678901")
+        String cpf,
+
+        @Schema(description = "Reason the record was rejected", example = "CPF 12345678901 is already registered")
+        String message
+) {
+}
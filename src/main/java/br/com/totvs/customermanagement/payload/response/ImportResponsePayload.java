@@ -0,0 +1,22 @@
+package br.com.totvs.customermanagement.payload.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Response payload summarizing a bulk import")
+public record ImportResponsePayload(
+
+        @Schema(description = "Number of records read from the file", example = "100000")
+        long processed,
+
+        @Schema(description = "Number of clients imported", example = "99990")
+        long imported,
+
+        @Schema(description = "Number of records rejected", example = "10")
+        long failed,
+
+        @Schema(description = "Rejected records, limited to the first 1000")
+        List<ImportErrorPayload> errors
+) {
+}
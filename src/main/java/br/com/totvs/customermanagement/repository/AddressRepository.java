@@ -4,6 +4,7 @@ import br.com.totvs.customermanagement.model.Address;
 import br.com.totvs.customermanagement.model.Client;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,5 +12,7 @@ public interface AddressRepository extends JpaRepository<Address, UUID> {
 
     List<Address> findByClient(Client client);
 
+    List<Address> findByClientIn(Collection<Client> clients);
+
     void deleteAllByClient(Client client);
 }
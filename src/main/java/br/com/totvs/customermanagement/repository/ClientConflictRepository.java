@@ -0,0 +1,19 @@
+package br.com.totvs.customermanagement.repository;
+
+import br.com.totvs.customermanagement.repository.projection.ClientConflictRow;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Lookup of the unique values of a client request that are already taken, which reads phone numbers from the
+ * table given by {@link PhoneNumberTable}.
+ */
+public interface ClientConflictRepository {
+
+    /**
+     * Finds, in a single round trip, every client already holding the given CPF, name or any of the
+     * given phone numbers. See {@link ClientConflictRow} for the row layout.
+     */
+    List<ClientConflictRow> findConflicts(String cpf, String name, Collection<String> numbers);
+}
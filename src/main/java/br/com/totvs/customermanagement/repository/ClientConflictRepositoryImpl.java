@@ -0,0 +1,55 @@
+package br.com.totvs.customermanagement.repository;
+
+import br.com.totvs.customermanagement.model.Client;
+import br.com.totvs.customermanagement.model.Phone;
+import br.com.totvs.customermanagement.model.reactive.ConflictRow;
+import br.com.totvs.customermanagement.repository.projection.ClientConflictRow;
+import br.com.totvs.customermanagement.util.NumberUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.List;
+
+class ClientConflictRepositoryImpl implements ClientConflictRepository {
+
+    private static final String CONFLICTS = """
+            SELECT 'CPF' AS kind, CAST(NULL AS VARCHAR(255)) AS conflicting_value, c.cpf AS owner_cpf
+            FROM clients c WHERE c.cpf = :cpf
+            UNION ALL
+            SELECT 'NAME', c.name, c.cpf
+            FROM clients c WHERE c.name = :name
+            UNION ALL
+            SELECT 'PHONE', p.number, c.cpf
+            FROM %s p JOIN clients c ON c.id = p.client_id WHERE p.number IN (:numbers)
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final String sql;
+
+    ClientConflictRepositoryImpl(DataSource dataSource) {
+        this.sql = CONFLICTS.formatted(PhoneNumberTable.of(dataSource));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ClientConflictRow> findConflicts(String cpf, String name, Collection<String> numbers) {
+        List<Object[]> rows = this.entityManager.createNativeQuery(this.sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Client.class)
+                .addSynchronizedEntityClass(Phone.class)
+                .setParameter("cpf", NumberUtil.parseCpf(cpf))
+                .setParameter("name", name)
+                // An empty IN list is not valid SQL; phone numbers are never blank, so this matches no phone
+                .setParameterList("numbers", numbers.isEmpty() ? List.of("") : numbers)
+                .getResultList();
+        return rows.stream()
+                .<ClientConflictRow>map(row -> new ConflictRow((String) row[0], (String) row[1],
+                        ((Number) row[2]).longValue()))
+                .toList();
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.totvs.customermanagement.repository;
+
+import br.com.totvs.customermanagement.model.Client;
+
+import java.util.Optional;
+
+/**
+ * Lookups of {@link Client} by its natural id, the CPF, which Spring Data cannot derive.
+ */
+public interface ClientNaturalIdRepository {
+
+    /**
+     * Loads the managed client holding the given CPF through Hibernate's natural id resolution.
+     * <p>
+     * A client already loaded in the current persistence context is returned without a query, and with the
+     * second-level cache enabled the CPF is resolved from the natural id cache across requests too.
+     * Otherwise a single query reads the client row.
+     * </p>
+     *
+     * @param cpf the CPF of the client
+     * @return the client, or empty if no client holds the CPF
+     */
+    Optional<Client> loadByCpf(String cpf);
+}
@@ -0,0 +1,19 @@
+package br.com.totvs.customermanagement.repository;
+
+import br.com.totvs.customermanagement.model.Client;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+class ClientNaturalIdRepositoryImpl implements ClientNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Client> loadByCpf(String cpf) {
+        return this.entityManager.unwrap(Session.class).bySimpleNaturalId(Client.class).loadOptional(cpf);
+    }
+}
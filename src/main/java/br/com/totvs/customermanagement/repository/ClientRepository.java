@@ -1,14 +1,26 @@
 package br.com.totvs.customermanagement.repository;
 
 import br.com.totvs.customermanagement.model.Client;
+import br.com.totvs.customermanagement.repository.projection.ClientAggregateRow;
+import br.com.totvs.customermanagement.repository.projection.ClientTypeaheadRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface ClientRepository extends JpaRepository<Client, UUID> {
+public interface ClientRepository extends JpaRepository<Client, UUID>, JpaSpecificationExecutor<Client>,
+        ClientNaturalIdRepository, ClientConflictRepository {
     Optional<Client> findByCpf(String cpf);
 
     boolean existsClientByCpf(String cpf);
@@ -17,4 +29,59 @@ public interface ClientRepository extends JpaRepository<Client, UUID> {
 
     @Query("SELECT c.name FROM Client c WHERE c.cpf = :cpf")
     Optional<String> findNameByCpf(@Param("cpf") String cpf);
+
+    /**
+     * Deletes a client with a single statement; its phones and addresses go with it through {@code ON DELETE CASCADE}.
+     */
+    @Modifying
+    @Query("DELETE FROM Client c WHERE c.cpf = :cpf")
+    int deleteByCpf(@Param("cpf") String cpf);
+
+    /**
+     * Deletes every client holding one of the given CPFs with a single statement,
+     * relying on {@code ON DELETE CASCADE} for their phones and addresses.
+     */
+    @Modifying
+    @Query("DELETE FROM Client c WHERE c.cpf IN :cpfs")
+    int deleteByCpfIn(@Param("cpfs") Collection<String> cpfs);
+
+    List<Client> findByCpfGreaterThanOrderByCpfAsc(String cpf, Limit limit);
+
+    @Query("SELECT c.cpf FROM Client c WHERE c.cpf IN :cpfs")
+    List<String> findExistingCpfs(@Param("cpfs") Collection<String> cpfs);
+
+    @Query("SELECT c.name FROM Client c WHERE c.name IN :names")
+    List<String> findExistingNames(@Param("names") Collection<String> names);
+
+    /**
+     * Reads a client together with its phones and addresses in a single round trip,
+     * without loading managed entities. See {@link ClientAggregateRow} for the row layout.
+     */
+    @Query("""
+            SELECT 'C' AS kind, c.name AS name, c.cpf AS cpf, CAST(NULL AS String) AS number,
+                   CAST(NULL AS String) AS street, CAST(NULL AS String) AS complement, CAST(NULL AS String) AS city,
+                   CAST(NULL AS String) AS state, CAST(NULL AS String) AS zipCode
+            FROM Client c WHERE c.cpf = :cpf
+            UNION ALL
+            SELECT 'P', NULL, NULL, p.number, NULL, NULL, NULL, NULL, NULL
+            FROM Phone p WHERE p.client.cpf = :cpf
+            UNION ALL
+            SELECT 'A', NULL, NULL, NULL, a.street, a.complement, a.city, a.state, a.zipCode
+            FROM Address a WHERE a.client.cpf = :cpf
+            """)
+    List<ClientAggregateRow> findAggregateByCpf(@Param("cpf") String cpf);
+
+    /**
+     * Streams the name and phone numbers of every client with a CPF in the given range, ordered by CPF,
+     * without loading managed entities. See {@link ClientTypeaheadRow} for the row layout.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT c.cpf AS cpf, c.name AS name, p.number AS number
+            FROM Client c LEFT JOIN c.phones p
+            WHERE c.cpf BETWEEN :from AND :to
+            ORDER BY c.cpf
+            """)
+    Stream<ClientTypeaheadRow> streamTypeaheadRows(@Param("from") String from, @Param("to") String to);
 }
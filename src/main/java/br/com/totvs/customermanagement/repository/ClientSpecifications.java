@@ -0,0 +1,108 @@
+package br.com.totvs.customermanagement.repository;
+
+import br.com.totvs.customermanagement.model.Address;
+import br.com.totvs.customermanagement.model.Client;
+import br.com.totvs.customermanagement.model.Phone;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Search criteria for {@link ClientRepository}.
+ * <p>
+ * Each predicate is written so that an index can serve it: prefixes are matched with {@code LIKE 'prefix%'}
+ * and case-insensitive values are compared in lower case, matching the expression indexes of the PostgreSQL
+ * migrations. Phones and addresses are matched with {@code EXISTS} subqueries, so a client is returned once
+ * however many of its rows match.
+ * </p>
+ */
+public final class ClientSpecifications {
+
+    private static final char ESCAPE = '\\';
+
+    private ClientSpecifications() {
+    }
+
+    /**
+     * @param prefix the beginning of the name, in any case
+     * @return clients whose name starts with the prefix, ignoring case
+     */
+    public static Specification<Client> nameStartsWith(String prefix) {
+        return (root, query, cb) ->
+                cb.like(cb.lower(root.get("name")), startsWith(prefix.toLowerCase(Locale.ROOT)), ESCAPE);
+    }
+
+    /**
+     * @param prefix the beginning of the phone number
+     * @return clients with at least one phone number starting with the prefix
+     */
+    public static Specification<Client> phoneStartsWith(String prefix) {
+        return (root, query, cb) -> {
+            Subquery<Integer> phones = query.subquery(Integer.class);
+            Root<Phone> phone = phones.from(Phone.class);
+            phones.select(cb.literal(1)).where(
+                    cb.equal(phone.get("client"), root),
+                    cb.like(phone.get("number"), startsWith(prefix), ESCAPE));
+            return cb.exists(phones);
+        };
+    }
+
+    /**
+     * Matches clients with at least one address satisfying every given value; {@code null} values are ignored.
+     *
+     * @param city the city, in any case
+     * @param state the state, in any case
+     * @param zipCode the exact zip code
+     * @return clients with a matching address
+     */
+    public static Specification<Client> hasAddress(String city, String state, String zipCode) {
+        return (root, query, cb) -> {
+            Subquery<Integer> addresses = query.subquery(Integer.class);
+            Root<Address> address = addresses.from(Address.class);
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(address.get("client"), root));
+            if (state != null) {
+                predicates.add(equalsIgnoringCase(cb, address.get("state"), state));
+            }
+            if (city != null) {
+                predicates.add(equalsIgnoringCase(cb, address.get("city"), city));
+            }
+            if (zipCode != null) {
+                predicates.add(cb.equal(address.get("zipCode"), zipCode));
+            }
+            addresses.select(cb.literal(1)).where(predicates.toArray(Predicate[]::new));
+            return cb.exists(addresses);
+        };
+    }
+
+    /**
+     * @param cursor the CPF of the last client of the previous page
+     * @return clients after the cursor in CPF order, for keyset pagination
+     */
+    public static Specification<Client> cpfAfter(String cursor) {
+        return (root, query, cb) -> cb.greaterThan(root.get("cpf"), cursor);
+    }
+
+    private static Predicate equalsIgnoringCase(CriteriaBuilder cb, Expression<String> column, String value) {
+        return cb.equal(cb.lower(column), value.toLowerCase(Locale.ROOT));
+    }
+
+    private static String startsWith(String prefix) {
+        StringBuilder pattern = new StringBuilder(prefix.length() + 1);
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                pattern.append(ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.totvs.customermanagement.repository;
+
+import br.com.totvs.customermanagement.model.Client;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lookups of phones by number, read from the table given by {@link PhoneNumberTable}.
+ */
+public interface PhoneNumberRepository {
+
+    boolean existsPhoneByNumber(String number);
+
+    Optional<Client> findClientByPhoneNumber(String number);
+
+    List<String> findExistingNumbers(Collection<String> numbers);
+}
@@ -0,0 +1,54 @@
+package br.com.totvs.customermanagement.repository;
+
+import br.com.totvs.customermanagement.model.Client;
+import br.com.totvs.customermanagement.model.Phone;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+class PhoneNumberRepositoryImpl implements PhoneNumberRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final String phoneNumberTable;
+
+    PhoneNumberRepositoryImpl(DataSource dataSource) {
+        this.phoneNumberTable = PhoneNumberTable.of(dataSource);
+    }
+
+    @Override
+    public boolean existsPhoneByNumber(String number) {
+        return !findExistingNumbers(List.of(number)).isEmpty();
+    }
+
+    @Override
+    public Optional<Client> findClientByPhoneNumber(String number) {
+        String sql = "SELECT c.* FROM " + this.phoneNumberTable
+                + " p JOIN clients c ON c.id = p.client_id WHERE p.number = :number";
+        return this.entityManager.createNativeQuery(sql, Client.class)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Phone.class)
+                .setParameter("number", number)
+                .uniqueResultOptional();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findExistingNumbers(Collection<String> numbers) {
+        if (numbers.isEmpty()) {
+            return List.of();
+        }
+        String sql = "SELECT number FROM " + this.phoneNumberTable + " WHERE number IN (:numbers)";
+        return this.entityManager.createNativeQuery(sql, String.class)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Phone.class)
+                .setParameterList("numbers", numbers)
+                .getResultList();
+    }
+}
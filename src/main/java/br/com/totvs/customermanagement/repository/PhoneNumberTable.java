@@ -0,0 +1,57 @@
+package br.com.totvs.customermanagement.repository;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * The table phone numbers are looked up in.
+ * <p>
+ * On PostgreSQL, {@code V10__partition_phones_and_addresses.sql} hash partitions {@code phones} by client, so a
+ * lookup by number alone would probe the number index of every partition. Numbers are resolved through the
+ * primary key of the {@code phone_numbers} registry instead, which holds the client of each number; reading a
+ * phone row afterwards filters on that client and touches a single partition. Other databases keep
+ * {@code phones} unpartitioned and have no registry. Both tables hold the {@code number} and {@code client_id}
+ * columns, so the lookups differ only in the table they read.
+ * </p>
+ * <p>
+ * The database is told by its product name, as Flyway picks the {@code db/vendor} migrations: the configured
+ * Hibernate dialect is PostgreSQL's even when the tests run on H2.
+ * </p>
+ */
+public final class PhoneNumberTable {
+
+    private static final String REGISTRY = "phone_numbers";
+    private static final String PHONES = "phones";
+
+    private PhoneNumberTable() {
+    }
+
+    /**
+     * @param dataSource the data source of the JPA stack
+     * @return the table to look phone numbers up in
+     */
+    public static String of(DataSource dataSource) {
+        try {
+            return of(JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName));
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Could not read the database product name", e);
+        }
+    }
+
+    /**
+     * @param connectionFactory the connection factory of the reactive stack
+     * @return the table to look phone numbers up in
+     */
+    public static String of(ConnectionFactory connectionFactory) {
+        return of(connectionFactory.getMetadata().getName());
+    }
+
+    private static String of(String databaseProductName) {
+        return DatabaseDriver.fromProductName(databaseProductName) == DatabaseDriver.POSTGRESQL ? REGISTRY : PHONES;
+    }
+}
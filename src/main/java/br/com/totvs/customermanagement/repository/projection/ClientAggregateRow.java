@@ -0,0 +1,34 @@
+package br.com.totvs.customermanagement.repository.projection;
+
+/**
+ * Flat row of the client aggregate read by {@code ClientRepository#findAggregateByCpf}.
+ * <p>
+ * The {@link #getKind() kind} tells which part of the aggregate the row carries:
+ * {@link #CLIENT} rows fill the name and CPF, {@link #PHONE} rows the number and
+ * {@link #ADDRESS} rows the address columns. Columns of the other parts are {@code null}.
+ * </p>
+ */
+public interface ClientAggregateRow {
+
+    String CLIENT = "C";
+    String PHONE = "P";
+    String ADDRESS = "A";
+
+    String getKind();
+
+    String getName();
+
+    String getCpf();
+
+    String getNumber();
+
+    String getStreet();
+
+    String getComplement();
+
+    String getCity();
+
+    String getState();
+
+    String getZipCode();
+}
@@ -0,0 +1,23 @@
+package br.com.totvs.customermanagement.repository.projection;
+
+/**
+ * Unique value of a client request that is already taken, as read by {@code ClientRepository#findConflicts}.
+ * <p>
+ * The {@link #getKind() kind} tells which value conflicts: {@link #CPF}, {@link #NAME} or a {@link #PHONE} number.
+ * The {@link #getOwnerCpf() owner CPF} identifies the client holding the value, so a client being updated can
+ * ignore the values it already owns. A taken CPF is its own owner CPF, so its conflicting value is {@code null}:
+ * the CPF column is numeric and cannot share a column with names and phone numbers.
+ * </p>
+ */
+public interface ClientConflictRow {
+
+    String CPF = "CPF";
+    String NAME = "NAME";
+    String PHONE = "PHONE";
+
+    String getKind();
+
+    String getConflictingValue();
+
+    String getOwnerCpf();
+}
@@ -0,0 +1,17 @@
+package br.com.totvs.customermanagement.repository.projection;
+
+/**
+ * Client name and one of its phone numbers, as read by {@code ClientRepository#streamTypeaheadRows}.
+ * <p>
+ * A client has one row per phone, all next to each other, and a single row with a {@code null}
+ * {@link #getNumber() number} when it has no phone.
+ * </p>
+ */
+public interface ClientTypeaheadRow {
+
+    String getCpf();
+
+    String getName();
+
+    String getNumber();
+}
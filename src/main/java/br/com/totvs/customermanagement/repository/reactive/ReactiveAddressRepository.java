@@ -0,0 +1,32 @@
+package br.com.totvs.customermanagement.repository.reactive;
+
+import br.com.totvs.customermanagement.model.reactive.AddressRow;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface ReactiveAddressRepository extends ReactiveCrudRepository<AddressRow, UUID> {
+    Flux<AddressRow> findByClientId(UUID clientId);
+
+    Flux<AddressRow> findByClientIdIn(Collection<UUID> clientIds);
+
+    @Modifying
+    @Query("""
+            INSERT INTO addresses (id, street, complement, city, state, zip_code, client_id)
+            VALUES (:id, :street, :complement, :city, :state, :zipCode, :clientId)
+            """)
+    Mono<Long> insert(UUID id, String street, String complement, String city, String state, String zipCode,
+                      UUID clientId);
+
+    /**
+     * Deletes rows of one client; the client id keeps the delete to a single partition of the table.
+     */
+    @Modifying
+    @Query("DELETE FROM addresses WHERE client_id = :clientId AND id IN (:ids)")
+    Mono<Long> deleteByClientIdAndIdIn(UUID clientId, Collection<UUID> ids);
+}
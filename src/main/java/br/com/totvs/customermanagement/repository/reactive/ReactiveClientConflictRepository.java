@@ -0,0 +1,20 @@
+package br.com.totvs.customermanagement.repository.reactive;
+
+import br.com.totvs.customermanagement.model.reactive.ConflictRow;
+import br.com.totvs.customermanagement.repository.PhoneNumberTable;
+import br.com.totvs.customermanagement.repository.projection.ClientConflictRow;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+/**
+ * Lookup of the unique values of a client request that are already taken, which reads phone numbers from the
+ * table given by {@link PhoneNumberTable}.
+ */
+public interface ReactiveClientConflictRepository {
+
+    /**
+     * Same query as {@code ClientRepository#findConflicts}. See {@link ClientConflictRow} for the row layout.
+     */
+    Flux<ConflictRow> findConflicts(long cpf, String name, Collection<String> numbers);
+}
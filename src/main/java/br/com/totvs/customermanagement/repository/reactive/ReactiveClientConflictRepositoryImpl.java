@@ -0,0 +1,42 @@
+package br.com.totvs.customermanagement.repository.reactive;
+
+import br.com.totvs.customermanagement.model.reactive.ConflictRow;
+import br.com.totvs.customermanagement.repository.PhoneNumberTable;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+class ReactiveClientConflictRepositoryImpl implements ReactiveClientConflictRepository {
+
+    private static final String CONFLICTS = """
+            SELECT 'CPF' AS kind, CAST(NULL AS VARCHAR(255)) AS conflicting_value, c.cpf AS owner_cpf
+            FROM clients c WHERE c.cpf = :cpf
+            UNION ALL
+            SELECT 'NAME', c.name, c.cpf
+            FROM clients c WHERE c.name = :name
+            UNION ALL
+            SELECT 'PHONE', p.number, c.cpf
+            FROM %s p JOIN clients c ON c.id = p.client_id WHERE p.number IN (:numbers)
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final String sql;
+
+    ReactiveClientConflictRepositoryImpl(DatabaseClient databaseClient, ConnectionFactory connectionFactory) {
+        this.databaseClient = databaseClient;
+        this.sql = CONFLICTS.formatted(PhoneNumberTable.of(connectionFactory));
+    }
+
+    @Override
+    public Flux<ConflictRow> findConflicts(long cpf, String name, Collection<String> numbers) {
+        return this.databaseClient.sql(this.sql)
+                .bind("cpf", cpf)
+                .bind("name", name)
+                .bind("numbers", numbers)
+                .map(row -> new ConflictRow(row.get("kind", String.class), row.get("conflicting_value", String.class),
+                        row.get("owner_cpf", Long.class)))
+                .all();
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.totvs.customermanagement.repository.reactive;
+
+import br.com.totvs.customermanagement.model.reactive.ClientRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveClientRepository extends ReactiveCrudRepository<ClientRow, UUID>,
+        ReactiveClientConflictRepository {
+    Mono<ClientRow> findByCpf(long cpf);
+
+    Flux<ClientRow> findByCpfGreaterThanOrderByCpfAsc(long cpf, Limit limit);
+
+    /**
+     * Inserts a client whose id is assigned by the caller; {@code save} would issue an update for it.
+     */
+    @Modifying
+    @Query("INSERT INTO clients (id, name, cpf) VALUES (:id, :name, :cpf)")
+    Mono<Long> insert(UUID id, String name, long cpf);
+
+    @Modifying
+    @Query("UPDATE clients SET name = :name, cpf = :cpf WHERE id = :id")
+    Mono<Long> update(UUID id, String name, long cpf);
+
+    /**
+     * Deletes a client with a single statement; its phones and addresses go with it through {@code ON DELETE CASCADE}.
+     */
+    @Modifying
+    @Query("DELETE FROM clients WHERE cpf = :cpf")
+    Mono<Long> deleteByCpf(long cpf);
+
+    /**
+     * Records a change in the outbox drained by {@code ClientChangeService}, in the transaction of the change.
+     */
+    @Modifying
+    @Query("INSERT INTO client_changes (previous_cpf, payload) VALUES (:previousCpf, :payload)")
+    Mono<Long> insertChange(String previousCpf, String payload);
+}
@@ -0,0 +1,28 @@
+package br.com.totvs.customermanagement.repository.reactive;
+
+import br.com.totvs.customermanagement.model.reactive.PhoneRow;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface ReactivePhoneRepository extends ReactiveCrudRepository<PhoneRow, UUID> {
+    Flux<PhoneRow> findByClientId(UUID clientId);
+
+    Flux<PhoneRow> findByClientIdIn(Collection<UUID> clientIds);
+
+    @Modifying
+    @Query("INSERT INTO phones (id, number, client_id) VALUES (:id, :number, :clientId)")
+    Mono<Long> insert(UUID id, String number, UUID clientId);
+
+    /**
+     * Deletes rows of one client; the client id keeps the delete to a single partition of the table.
+     */
+    @Modifying
+    @Query("DELETE FROM phones WHERE client_id = :clientId AND id IN (:ids)")
+    Mono<Long> deleteByClientIdAndIdIn(UUID clientId, Collection<UUID> ids);
+}
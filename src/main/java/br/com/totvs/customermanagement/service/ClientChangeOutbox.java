@@ -0,0 +1,90 @@
+package br.com.totvs.customermanagement.service;
+
+import br.com.totvs.customermanagement.payload.response.ClientResponsePayload;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes every {@link ClientChangedEvent} to the {@code client_changes} outbox table in the transaction of the
+ * change, from where {@link ClientChangeService} publishes it and serves the change feed.
+ */
+@Service
+public class ClientChangeOutbox {
+
+    static final String INSERT_CHANGE = "INSERT INTO client_changes (previous_cpf, payload) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ClientChangeOutbox(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Records a change published inside a transaction.
+     * <p>
+     * The changes of a transaction are inserted with a single JDBC batch right before it commits, so they are
+     * committed or rolled back together with the clients they describe, and a bulk import or delete costs one
+     * round trip per transaction instead of one per client. Events published outside a transaction are ignored:
+     * the reactive service writes its changes with R2DBC inside its own transactions.
+     * </p>
+     *
+     * @param event the change
+     */
+    @EventListener
+    public void onClientChanged(ClientChangedEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        PendingChanges pending = null;
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingChanges changes && changes.outbox() == this) {
+                pending = changes;
+            }
+        }
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.rows.add(new Object[]{event.previousCpf(), toJson(event.client())});
+    }
+
+    /**
+     * @param client the client after a change, or {@code null} when it was deleted
+     * @return the JSON stored in the {@code payload} column, or {@code null} for a deleted client
+     */
+    public String toJson(ClientResponsePayload client) {
+        if (client == null) {
+            return null;
+        }
+        try {
+            return this.objectMapper.writeValueAsString(client);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private class PendingChanges implements TransactionSynchronization {
+
+        private final List<Object[]> rows = new ArrayList<>();
+
+        ClientChangeOutbox outbox() {
+            return ClientChangeOutbox.this;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            jdbcTemplate.batchUpdate(INSERT_CHANGE, this.rows);
+        }
+    }
+}
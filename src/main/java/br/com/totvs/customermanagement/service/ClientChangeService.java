@@ -0,0 +1,134 @@
+package br.com.totvs.customermanagement.service;
+
+import br.com.totvs.customermanagement.payload.response.ClientChangePayload;
+import br.com.totvs.customermanagement.payload.response.ClientChangesPayload;
+import br.com.totvs.customermanagement.payload.response.ClientResponsePayload;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Publishes the changes recorded by {@link ClientChangeOutbox} and serves them as an incremental feed.
+ * <p>
+ * Outbox rows become visible in commit order, which is not the order of their ids, so a feed read by id could
+ * skip a change committed late. Publishing instead numbers each new row with a feed position while holding the
+ * lock of the single {@code client_change_cursor} row: positions only grow, a position once read is never
+ * followed by a lower one, and several application instances can run the publisher safely.
+ * </p>
+ */
+@Service
+@Timed(value = "totvs.service", histogram = true)
+public class ClientChangeService {
+
+    public static final int DEFAULT_CHANGES = 100;
+    public static final int MAX_CHANGES = 1000;
+
+    private static final String LOCK_CURSOR = "SELECT last_position FROM client_change_cursor WHERE id = 1 FOR UPDATE";
+    private static final String SELECT_UNPUBLISHED = "SELECT id, previous_cpf, payload, changed_at FROM client_changes "
+            + "WHERE feed_position IS NULL ORDER BY id LIMIT ?";
+    private static final String SET_POSITION = "UPDATE client_changes SET feed_position = ? WHERE id = ?";
+    private static final String UPDATE_CURSOR = "UPDATE client_change_cursor SET last_position = ? WHERE id = 1";
+    private static final String SELECT_FEED = "SELECT feed_position, previous_cpf, payload, changed_at "
+            + "FROM client_changes WHERE feed_position > ? ORDER BY feed_position LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final List<ClientChangeSink> sinks;
+    private final int batchSize;
+
+    public ClientChangeService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                               ObjectMapper objectMapper, List<ClientChangeSink> sinks,
+                               @Value("${totvs.outbox.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.sinks = sinks;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Drains the outbox in batches of {@code totvs.outbox.batch-size} changes.
+     * <p>
+     * Each batch is numbered, delivered to every {@link ClientChangeSink} and marked as published in one
+     * transaction, so a failing sink leaves the batch in the outbox to be delivered again on the next run.
+     * </p>
+     *
+     * @return the number of changes published
+     */
+    @Scheduled(fixedDelayString = "${totvs.outbox.publish-delay-ms:1000}")
+    public int publishPending() {
+        int published = 0;
+        int batch;
+        do {
+            batch = this.transactionTemplate.execute(status -> publishBatch());
+            published += batch;
+        } while (batch == this.batchSize);
+        return published;
+    }
+
+    /**
+     * Reads the published changes after a token, in the order they were published.
+     *
+     * @param since the token of the last change already seen, or {@code null} to read from the first change
+     * @param limit the maximum number of changes, clamped between 1 and {@link #MAX_CHANGES}
+     * @return the changes and the token to request the following ones
+     */
+    public ClientChangesPayload getChanges(Long since, int limit) {
+        long after = since != null ? since : 0;
+        List<ClientChangePayload> changes = this.jdbcTemplate.query(SELECT_FEED,
+                (rs, rowNum) -> toChange(rs.getLong("feed_position"), rs),
+                after, Math.min(Math.max(limit, 1), MAX_CHANGES));
+        String next = changes.isEmpty() ? String.valueOf(after) : changes.get(changes.size() - 1).token();
+        return new ClientChangesPayload(changes, next);
+    }
+
+    private int publishBatch() {
+        long lastPosition = this.jdbcTemplate.queryForObject(LOCK_CURSOR, Long.class);
+        List<Long> ids = new ArrayList<>(this.batchSize);
+        List<ClientChangePayload> changes = new ArrayList<>(this.batchSize);
+        this.jdbcTemplate.query(SELECT_UNPUBLISHED, rs -> {
+            ids.add(rs.getLong("id"));
+            changes.add(toChange(lastPosition + ids.size(), rs));
+        }, this.batchSize);
+        if (changes.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> positions = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            positions.add(new Object[]{lastPosition + i + 1, ids.get(i)});
+        }
+        this.jdbcTemplate.batchUpdate(SET_POSITION, positions);
+        this.jdbcTemplate.update(UPDATE_CURSOR, lastPosition + ids.size());
+        this.sinks.forEach(sink -> sink.publish(changes));
+        return changes.size();
+    }
+
+    private ClientChangePayload toChange(long position, ResultSet rs) throws SQLException {
+        String previousCpf = rs.getString("previous_cpf");
+        String payload = rs.getString("payload");
+        ClientResponsePayload client;
+        try {
+            client = payload != null ? this.objectMapper.readValue(payload, ClientResponsePayload.class) : null;
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        ClientChangePayload.Type type = previousCpf == null ? ClientChangePayload.Type.CREATED
+                : client == null ? ClientChangePayload.Type.DELETED : ClientChangePayload.Type.UPDATED;
+        return new ClientChangePayload(String.valueOf(position), type, previousCpf, client,
+                rs.getObject("changed_at", OffsetDateTime.class).toInstant());
+    }
+}
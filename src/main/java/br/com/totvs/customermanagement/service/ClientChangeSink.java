@@ -0,0 +1,21 @@
+package br.com.totvs.customermanagement.service;
+
+import br.com.totvs.customermanagement.payload.response.ClientChangePayload;
+
+import java.util.List;
+
+/**
+ * Destination of the client changes drained from the outbox by {@link ClientChangeService#publishPending()},
+ * standing in for a message broker.
+ * <p>
+ * A batch is delivered inside the transaction that marks it as published: if a sink throws, the batch stays in
+ * the outbox and is delivered again on the next run, so sinks must tolerate receiving a change more than once.
+ * </p>
+ */
+public interface ClientChangeSink {
+
+    /**
+     * @param changes the next changes of the feed, in order
+     */
+    void publish(List<ClientChangePayload> changes);
+}
@@ -0,0 +1,24 @@
+package br.com.totvs.customermanagement.service;
+
+import br.com.totvs.customermanagement.payload.response.ClientResponsePayload;
+
+/**
+ * Published by the client write paths once for every client they create, change or delete.
+ * <p>
+ * Blocking writes publish it inside their transaction, so listeners declared with
+ * {@code @TransactionalEventListener} only see it once the change is committed and never for a rolled back one.
+ * </p>
+ *
+ * @param previousCpf the CPF of the client before the change, or {@code null} when the client was created
+ * @param client the client after the change, or {@code null} when the client was deleted
+ */
+public record ClientChangedEvent(String previousCpf, ClientResponsePayload client) {
+
+    public static ClientChangedEvent created(ClientResponsePayload client) {
+        return new ClientChangedEvent(null, client);
+    }
+
+    public static ClientChangedEvent deleted(String cpf) {
+        return new ClientChangedEvent(cpf, null);
+    }
+}
@@ -0,0 +1,319 @@
+package br.com.totvs.customermanagement.service;
+
+import br.com.totvs.customermanagement.exception.CpfAlreadyExistsException;
+import br.com.totvs.customermanagement.exception.InvalidCpfException;
+import br.com.totvs.customermanagement.exception.NameAlreadyExistsException;
+import br.com.totvs.customermanagement.exception.PhoneNumberAlreadyExistsException;
+import br.com.totvs.customermanagement.payload.request.AddressRequestPayload;
+import br.com.totvs.customermanagement.payload.request.ClientRequestPayload;
+import br.com.totvs.customermanagement.payload.request.PhoneRequestPayload;
+import br.com.totvs.customermanagement.payload.response.AddressResponsePayload;
+import br.com.totvs.customermanagement.payload.response.ClientResponsePayload;
+import br.com.totvs.customermanagement.payload.response.ImportErrorPayload;
+import br.com.totvs.customermanagement.payload.response.ImportResponsePayload;
+import br.com.totvs.customermanagement.payload.response.PhoneResponsePayload;
+import br.com.totvs.customermanagement.repository.ClientRepository;
+import br.com.totvs.customermanagement.repository.PhoneRepository;
+import br.com.totvs.customermanagement.util.CsvUtil;
+import br.com.totvs.customermanagement.util.NumberUtil;
+import br.com.totvs.customermanagement.util.UuidUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@Timed(value = "totvs.service", histogram = true)
+public class ClientImportService {
+
+    public static final int BATCH_SIZE = 1000;
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    static final List<String> CSV_HEADER =
+            List.of("name", "cpf", "phones", "street", "complement", "city", "state", "zipCode");
+
+    private static final String INSERT_CLIENT = "INSERT INTO clients (id, name, cpf) VALUES (?, ?, ?)";
+    private static final String INSERT_PHONE = "INSERT INTO phones (id, number, client_id) VALUES (?, ?, ?)";
+    private static final String INSERT_ADDRESS = "INSERT INTO addresses (id, street, complement, city, state, zip_code, client_id) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Formats accepted by {@link #importClients(BufferedReader, Format)}.
+     */
+    public enum Format {
+        /**
+         * One {@link ClientRequestPayload} JSON document per line.
+         */
+        NDJSON,
+        /**
+         * A header line followed by one client per line, with the columns listed in {@link #CSV_HEADER}.
+         * Phones are separated by {@code |} and each line carries a single address.
+         */
+        CSV
+    }
+
+    private final ClientRepository clientRepository;
+    private final PhoneRepository phoneRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ClientImportService(ClientRepository clientRepository, PhoneRepository phoneRepository,
+                               JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                               ObjectMapper objectMapper, Validator validator,
+                               ApplicationEventPublisher eventPublisher) {
+        this.clientRepository = clientRepository;
+        this.phoneRepository = phoneRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Imports clients from a stream of records.
+     * <p>
+     * Records are read lazily and handled in batches of {@link #BATCH_SIZE}: each batch is validated,
+     * checked for duplicates with one query per kind of unique value and inserted with JDBC batches
+     * in its own transaction. Rejected records are reported and never abort the import, and a
+     * {@link ClientChangedEvent} is published for every imported client.
+     * </p>
+     *
+     * @param reader the records to import
+     * @param format the format of the records
+     * @return a summary of the import with the rejected records
+     * @throws IOException if the records cannot be read
+     */
+    public ImportResponsePayload importClients(BufferedReader reader, Format format) throws IOException {
+        ImportReport report = new ImportReport();
+        List<ImportRecord> batch = new ArrayList<>(BATCH_SIZE);
+        long lineNumber = 0;
+
+        if (format == Format.CSV) {
+            String header = reader.readLine();
+            lineNumber++;
+            if (header == null || !CSV_HEADER.equals(CsvUtil.parseLine(header.strip()))) {
+                report.fail(lineNumber, null, "CSV header must be " + String.join(",", CSV_HEADER));
+                return report.toPayload();
+            }
+        }
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            report.processed++;
+
+            ClientRequestPayload request;
+            try {
+                request = format == Format.CSV ? parseCsv(line) : this.objectMapper.readValue(line, ClientRequestPayload.class);
+            } catch (Exception e) {
+                report.fail(lineNumber, null, "Malformed record: " + e.getMessage());
+                continue;
+            }
+
+            String error = validate(request);
+            if (error != null) {
+                report.fail(lineNumber, request.cpf(), error);
+                continue;
+            }
+
+            batch.add(new ImportRecord(lineNumber, request));
+            if (batch.size() == BATCH_SIZE) {
+                importBatch(batch, report);
+                batch.clear();
+            }
+        }
+        importBatch(batch, report);
+
+        return report.toPayload();
+    }
+
+    private void importBatch(List<ImportRecord> batch, ImportReport report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<ImportRecord> unique = rejectDuplicatesInBatch(batch, report);
+        if (unique.isEmpty()) {
+            return;
+        }
+
+        Set<String> existingCpfs = new HashSet<>(this.clientRepository.findExistingCpfs(
+                unique.stream().map(record -> record.request().cpf()).toList()));
+        Set<String> existingNames = new HashSet<>(this.clientRepository.findExistingNames(
+                unique.stream().map(record -> record.request().name()).toList()));
+        Set<String> existingNumbers = new HashSet<>(this.phoneRepository.findExistingNumbers(
+                unique.stream().flatMap(record -> record.request().phones().stream()).map(PhoneRequestPayload::number).toList()));
+
+        List<ImportRecord> candidates = new ArrayList<>(unique.size());
+        for (ImportRecord record : unique) {
+            ClientRequestPayload request = record.request();
+            String existingNumber = request.phones().stream().map(PhoneRequestPayload::number)
+                    .filter(existingNumbers::contains).findFirst().orElse(null);
+            if (existingCpfs.contains(request.cpf())) {
+                report.fail(record.line(), request.cpf(), new CpfAlreadyExistsException(request.cpf()).getMessage());
+            } else if (existingNames.contains(request.name())) {
+                report.fail(record.line(), request.cpf(), new NameAlreadyExistsException(request.name()).getMessage());
+            } else if (existingNumber != null) {
+                report.fail(record.line(), request.cpf(), new PhoneNumberAlreadyExistsException(existingNumber).getMessage());
+            } else {
+                candidates.add(record);
+            }
+        }
+
+        try {
+            insert(candidates);
+            report.imported += candidates.size();
+        } catch (DataIntegrityViolationException e) {
+            // Another writer took one of the values after the checks above: retry one by one to isolate it.
+            for (ImportRecord record : candidates) {
+                try {
+                    insert(List.of(record));
+                    report.imported++;
+                } catch (DataIntegrityViolationException recordException) {
+                    report.fail(record.line(), record.request().cpf(), "Record conflicts with an existing client");
+                }
+            }
+        }
+    }
+
+    private List<ImportRecord> rejectDuplicatesInBatch(List<ImportRecord> batch, ImportReport report) {
+        Set<String> cpfs = new HashSet<>();
+        Set<String> names = new HashSet<>();
+        Set<String> numbers = new HashSet<>();
+        List<ImportRecord> unique = new ArrayList<>(batch.size());
+
+        for (ImportRecord record : batch) {
+            ClientRequestPayload request = record.request();
+            List<String> recordNumbers = request.phones().stream().map(PhoneRequestPayload::number).toList();
+            if (cpfs.contains(request.cpf())) {
+                report.fail(record.line(), request.cpf(), "CPF " + request.cpf() + " is duplicated in the import");
+            } else if (names.contains(request.name())) {
+                report.fail(record.line(), request.cpf(), "Client name '" + request.name() + "' is duplicated in the import");
+            } else if (recordNumbers.stream().anyMatch(numbers::contains) || new HashSet<>(recordNumbers).size() != recordNumbers.size()) {
+                report.fail(record.line(), request.cpf(), "Phone numbers of the client are duplicated in the import");
+            } else {
+                cpfs.add(request.cpf());
+                names.add(request.name());
+                numbers.addAll(recordNumbers);
+                unique.add(record);
+            }
+        }
+        return unique;
+    }
+
+    private void insert(List<ImportRecord> records) {
+        List<Object[]> clients = new ArrayList<>(records.size());
+        List<Object[]> phones = new ArrayList<>();
+        List<Object[]> addresses = new ArrayList<>();
+
+        for (ImportRecord record : records) {
+            ClientRequestPayload request = record.request();
+            UUID clientId = UuidUtil.timeOrdered();
+            clients.add(new Object[]{clientId, request.name(), NumberUtil.parseCpf(request.cpf())});
+            for (PhoneRequestPayload phone : request.phones()) {
+                phones.add(new Object[]{UuidUtil.timeOrdered(), phone.number(), clientId});
+            }
+            for (AddressRequestPayload address : request.addresses()) {
+                addresses.add(new Object[]{UuidUtil.timeOrdered(), address.street(), address.complement(),
+                        address.city(), address.state(), address.zipCode(), clientId});
+            }
+        }
+
+        this.transactionTemplate.executeWithoutResult(status -> {
+            this.jdbcTemplate.batchUpdate(INSERT_CLIENT, clients);
+            this.jdbcTemplate.batchUpdate(INSERT_PHONE, phones);
+            this.jdbcTemplate.batchUpdate(INSERT_ADDRESS, addresses);
+            records.forEach(record -> this.eventPublisher.publishEvent(ClientChangedEvent.created(toResponse(record.request()))));
+        });
+    }
+
+    private static ClientResponsePayload toResponse(ClientRequestPayload request) {
+        return new ClientResponsePayload(request.name(), request.cpf(),
+                request.phones().stream().map(phone -> new PhoneResponsePayload(phone.number())).toList(),
+                request.addresses().stream().map(address -> new AddressResponsePayload(address.street(),
+                        address.complement(), address.city(), address.state(), address.zipCode())).toList());
+    }
+
+    private String validate(ClientRequestPayload request) {
+        Set<ConstraintViolation<?>> violations = new HashSet<>(this.validator.validate(request));
+        if (violations.isEmpty()) {
+            if (request.phones().stream().anyMatch(Objects::isNull) || request.addresses().stream().anyMatch(Objects::isNull)) {
+                return "phones and addresses must not contain null entries";
+            }
+            request.phones().forEach(phone -> violations.addAll(this.validator.validate(phone)));
+            request.addresses().forEach(address -> violations.addAll(this.validator.validate(address)));
+        }
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (!NumberUtil.isValidCpf(request.cpf()) || NumberUtil.parseCpf(request.cpf()) < 0) {
+            return new InvalidCpfException(request.cpf()).getMessage();
+        }
+        return null;
+    }
+
+    private static ClientRequestPayload parseCsv(String line) {
+        List<String> fields = CsvUtil.parseLine(line);
+        if (fields.size() != CSV_HEADER.size()) {
+            throw new IllegalArgumentException("expected " + CSV_HEADER.size() + " fields but found " + fields.size());
+        }
+
+        List<PhoneRequestPayload> phones = Arrays.stream(fields.get(2).split("\\|"))
+                .map(String::strip)
+                .filter(number -> !number.isEmpty())
+                .map(PhoneRequestPayload::new)
+                .toList();
+        String complement = fields.get(4).isBlank() ? null : fields.get(4);
+
+        return new ClientRequestPayload(fields.get(0), fields.get(1), phones,
+                List.of(new AddressRequestPayload(fields.get(3), complement, fields.get(5), fields.get(6), fields.get(7))));
+    }
+
+    private record ImportRecord(long line, ClientRequestPayload request) {
+    }
+
+    private static class ImportReport {
+
+        private long processed;
+        private long imported;
+        private long failed;
+        private final List<ImportErrorPayload> errors = new ArrayList<>();
+
+        private void fail(long line, String cpf, String message) {
+            this.failed++;
+            if (this.errors.size() < MAX_REPORTED_ERRORS) {
+                this.errors.add(new ImportErrorPayload(line, cpf, message));
+            }
+        }
+
+        private ImportResponsePayload toPayload() {
+            return new ImportResponsePayload(this.processed, this.imported, this.failed, List.copyOf(this.errors));
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package br.com.totvs.customermanagement.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bloom filter over the CPFs, names and phone numbers of the clients, safe for concurrent use.
+ * <p>
+ * {@code mightContain*} never answers {@code false} for a key that was added, and answers {@code true} for a key
+ * that was not with a probability close to the false positive rate the filter was sized for, as long as it holds
+ * no more keys than expected. Each kind of key is prefixed before hashing, so a name never collides with an equal
+ * phone number. Keys cannot be removed: a deleted client keeps answering {@code true} until the filter is rebuilt.
+ * </p>
+ * <p>
+ * The {@code m} bits and {@code k} hash functions are derived from the expected keys {@code n} and the false positive
+ * rate {@code p} as {@code m = -n ln p / (ln 2)²} and {@code k = m / n ln 2}, about 9.6 bits and 7 probes per key
+ * at 1%. The probes are derived from a single 64-bit hash by double hashing.
+ * </p>
+ */
+public final class ClientKeyFilter {
+
+    private static final char CPF = 'c';
+    private static final char NAME = 'n';
+    private static final char PHONE = 'p';
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+    private final long capacity;
+    private final LongAdder keys = new LongAdder();
+
+    /**
+     * @param expectedKeys the number of keys the filter is sized for
+     * @param falsePositiveRate the false positive rate once the expected keys are added, between 0 and 1 exclusive
+     */
+    public ClientKeyFilter(long expectedKeys, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        this.capacity = Math.max(expectedKeys, 1);
+        long optimalBits = (long) Math.ceil(-this.capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.words = new AtomicLongArray(Math.toIntExact(Math.max((optimalBits + 63) / 64, 1)));
+        this.bits = this.words.length() * 64L;
+        this.hashes = Math.max((int) Math.round((double) this.bits / this.capacity * Math.log(2)), 1);
+    }
+
+    public void putCpf(String cpf) {
+        put(CPF, cpf);
+    }
+
+    public void putName(String name) {
+        put(NAME, name);
+    }
+
+    public void putPhone(String number) {
+        put(PHONE, number);
+    }
+
+    public boolean mightContainCpf(String cpf) {
+        return mightContain(CPF, cpf);
+    }
+
+    public boolean mightContainName(String name) {
+        return mightContain(NAME, name);
+    }
+
+    public boolean mightContainPhone(String number) {
+        return mightContain(PHONE, number);
+    }
+
+    /**
+     * @return the keys added, not counting the ones whose bits were all set already
+     */
+    public long size() {
+        return this.keys.sum();
+    }
+
+    /**
+     * @return the number of keys the filter was sized for
+     */
+    public long capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * @return the bytes taken by the bits of the filter
+     */
+    public long memoryBytes() {
+        return this.words.length() * 8L;
+    }
+
+    /**
+     * @return the false positive rate expected for the keys added so far, {@code (1 - e^(-kn/m))^k}
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) this.hashes * size() / this.bits), this.hashes);
+    }
+
+    private void put(char kind, String key) {
+        long hash = hash(kind, key);
+        long step = step(hash);
+        boolean changed = false;
+        for (int i = 0; i < this.hashes; i++) {
+            long bit = Math.floorMod(hash + i * step, this.bits);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            changed |= (this.words.getAndAccumulate(word, mask, (current, set) -> current | set) & mask) == 0;
+        }
+        if (changed) {
+            this.keys.increment();
+        }
+    }
+
+    private boolean mightContain(char kind, String key) {
+        long hash = hash(kind, key);
+        long step = step(hash);
+        for (int i = 0; i < this.hashes; i++) {
+            long bit = Math.floorMod(hash + i * step, this.bits);
+            if ((this.words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * FNV-1a over the kind and the characters of the key, with the finalizer of MurmurHash3 to spread its bits.
+     */
+    private static long hash(char kind, String key) {
+        long hash = (0xcbf29ce484222325L ^ kind) * 0x100000001b3L;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * A second hash, never zero, so that the probes of a key do not all land on the same bit.
+     */
+    private static long step(long hash) {
+        return mix(hash + 0x9e3779b97f4a7c15L) | 1;
+    }
+
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,242 @@
+package br.com.totvs.customermanagement.service;
+
+import br.com.totvs.customermanagement.payload.response.ClientResponsePayload;
+import br.com.totvs.customermanagement.payload.response.PhoneResponsePayload;
+import br.com.totvs.customermanagement.repository.ClientRepository;
+import br.com.totvs.customermanagement.repository.PhoneRepository;
+import br.com.totvs.customermanagement.repository.projection.ClientTypeaheadRow;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Answers whether the CPF, name and phone numbers of a write are certainly not taken, so that
+ * {@link ClientService} can skip the conflicts query for them.
+ * <p>
+ * When {@code totvs.key-filter.enabled} is set, a {@link ClientKeyFilter} is loaded once the application is ready,
+ * with the same parallel range scans as the typeahead index, and receives the keys of the {@link ClientChangedEvent}s
+ * of committed writes. It is sized for twice the keys found at load time, and loaded again in the background once
+ * it holds more keys than that. Deleted clients stay in the filter until then, and only cost a query.
+ * </p>
+ * <p>
+ * The filter is never the last word: a key written by another instance, or by a concurrent transaction that has not
+ * committed yet, is missing from it, and the unique constraints checked by {@code flushUniqueValues} still turn the
+ * write into the matching conflict. Until the filter is loaded, or when it is disabled, every write is queried.
+ * </p>
+ */
+@Service
+public class ClientKeyFilterService implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClientKeyFilterService.class);
+
+    private final ClientRepository clientRepository;
+    private final PhoneRepository phoneRepository;
+    private final TransactionTemplate loadTransaction;
+    private final boolean enabled;
+    private final int loadParallelism;
+    private final long minimumKeys;
+    private final double falsePositiveRate;
+
+    private final LongAdder absent = new LongAdder();
+    private final LongAdder possible = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    private volatile ClientKeyFilter filter;
+    private volatile ClientKeyFilter loading;
+
+    public ClientKeyFilterService(ClientRepository clientRepository, PhoneRepository phoneRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${totvs.key-filter.enabled:false}") boolean enabled,
+                                  @Value("${totvs.key-filter.load-parallelism:4}") int loadParallelism,
+                                  @Value("${totvs.key-filter.minimum-keys:1000000}") long minimumKeys,
+                                  @Value("${totvs.key-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.clientRepository = clientRepository;
+        this.phoneRepository = phoneRepository;
+        // Not read-only, so that the load reads the primary and never a lagging replica
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.loadParallelism = Math.max(loadParallelism, 1);
+        this.minimumKeys = minimumKeys;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * @return whether writes are checked against the filter
+     */
+    public boolean isLoaded() {
+        return this.filter != null;
+    }
+
+    /**
+     * Checks the values of a write against the filter.
+     *
+     * @param cpf the CPF, or {@code null} if it needs no check
+     * @param name the name, or {@code null} if it needs no check
+     * @param numbers the phone numbers that need a check
+     * @return {@code true} if no other client has any of the values, {@code false} if one may have it or the filter
+     * is not loaded
+     */
+    public boolean definitelyAbsent(String cpf, String name, Collection<String> numbers) {
+        ClientKeyFilter current = this.filter;
+        if (current == null) {
+            return false;
+        }
+        boolean definitelyAbsent = (cpf == null || !current.mightContainCpf(cpf))
+                && (name == null || !current.mightContainName(name))
+                && numbers.stream().noneMatch(current::mightContainPhone);
+        (definitelyAbsent ? this.absent : this.possible).increment();
+        return definitelyAbsent;
+    }
+
+    /**
+     * Records that the conflicts query run after a check that was not {@link #definitelyAbsent} found nothing.
+     */
+    public void recordFalsePositive() {
+        if (this.filter != null) {
+            this.falsePositives.increment();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (this.enabled) {
+            loadFilter();
+        }
+    }
+
+    /**
+     * Loads a new filter from the database in the background and starts checking writes against it once loaded.
+     * Changes committed during the load are added to both the filter in use and the new one.
+     *
+     * @return completes once the new filter is in use
+     */
+    public synchronized CompletableFuture<Void> loadFilter() {
+        long expectedKeys = this.loadTransaction.execute(status ->
+                2 * this.clientRepository.count() + this.phoneRepository.count());
+        ClientKeyFilter loaded = new ClientKeyFilter(Math.max(2 * expectedKeys, this.minimumKeys), this.falsePositiveRate);
+        this.loading = loaded;
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(this.loadParallelism);
+        CompletableFuture<?>[] ranges = IntStream.rangeClosed(0, 9)
+                .mapToObj(digit -> CompletableFuture.runAsync(() -> loadRange(loaded, digit), executor))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(ranges).whenComplete((ignored, error) -> {
+            executor.shutdown();
+            if (error == null) {
+                this.filter = loaded;
+                LOGGER.info("Key filter loaded with {} keys in {} KB and {} ms, expected false positive rate {}",
+                        loaded.size(), loaded.memoryBytes() / 1024, (System.nanoTime() - start) / 1_000_000,
+                        String.format("%.4f", loaded.expectedFalsePositiveRate()));
+            } else {
+                LOGGER.error("Key filter could not be loaded, every write keeps querying for conflicts", error);
+            }
+            if (this.loading == loaded) {
+                this.loading = null;
+            }
+        });
+    }
+
+    /**
+     * Adds the values of a committed write to the filter in use and to the one being loaded, and loads a larger
+     * filter once the one in use is full. Changes made outside a transaction, such as the ones of the reactive API,
+     * are added right away.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClientChanged(ClientChangedEvent event) {
+        ClientResponsePayload client = event.client();
+        if (client == null) {
+            return;
+        }
+        // The filter being loaded is read first: it is only cleared after becoming the one in use
+        for (ClientKeyFilter target : new ClientKeyFilter[]{this.loading, this.filter}) {
+            if (target != null) {
+                target.putCpf(client.cpf());
+                target.putName(client.name());
+                client.phones().stream().map(PhoneResponsePayload::number).forEach(target::putPhone);
+            }
+        }
+        ClientKeyFilter current = this.filter;
+        if (current != null && this.loading == null && current.size() > current.capacity()) {
+            synchronized (this) {
+                if (this.loading == null && this.filter == current) {
+                    loadFilter();
+                }
+            }
+        }
+    }
+
+    /**
+     * Publishes the checks answered by the filter, which are the conflicts queries saved, the checks that went to
+     * the database and found nothing, and the keys, memory and expected false positive rate of the filter in use.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("totvs.key.filter.checks", this.absent, LongAdder::sum)
+                .description("Uniqueness checks answered by the key filter without querying")
+                .tag("result", "absent")
+                .register(registry);
+        FunctionCounter.builder("totvs.key.filter.checks", this.possible, LongAdder::sum)
+                .description("Uniqueness checks the key filter sent to the conflicts query")
+                .tag("result", "possible")
+                .register(registry);
+        FunctionCounter.builder("totvs.key.filter.false.positives", this.falsePositives, LongAdder::sum)
+                .description("Conflicts queries sent by the key filter that found no conflict")
+                .register(registry);
+        gauge(registry, "totvs.key.filter.keys", null, ClientKeyFilter::size);
+        gauge(registry, "totvs.key.filter.memory", "bytes", ClientKeyFilter::memoryBytes);
+        gauge(registry, "totvs.key.filter.expected.false.positive.rate", null,
+                ClientKeyFilter::expectedFalsePositiveRate);
+    }
+
+    private void gauge(MeterRegistry registry, String name, String baseUnit, ToDoubleFunction<ClientKeyFilter> value) {
+        Gauge.builder(name, this, service -> service.filter == null ? 0 : value.applyAsDouble(service.filter))
+                .baseUnit(baseUnit)
+                .register(registry);
+    }
+
+    /**
+     * Reads the clients whose CPF starts with the given digit; CPFs are always stored as 11 digits.
+     */
+    private void loadRange(ClientKeyFilter target, int digit) {
+        String from = digit + "0000000000";
+        String to = digit + "9999999999";
+        this.loadTransaction.executeWithoutResult(status -> {
+            try (Stream<ClientTypeaheadRow> rows = this.clientRepository.streamTypeaheadRows(from, to)) {
+                Iterator<ClientTypeaheadRow> iterator = rows.iterator();
+                String cpf = null;
+                while (iterator.hasNext()) {
+                    ClientTypeaheadRow row = iterator.next();
+                    if (!row.getCpf().equals(cpf)) {
+                        cpf = row.getCpf();
+                        target.putCpf(cpf);
+                        target.putName(row.getName());
+                    }
+                    if (row.getNumber() != null) {
+                        target.putPhone(row.getNumber());
+                    }
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,165 @@
+package br.com.totvs.customermanagement.service;
+
+import br.com.totvs.customermanagement.exception.CpfAlreadyExistsException;
+import br.com.totvs.customermanagement.exception.InvalidCpfException;
+import br.com.totvs.customermanagement.exception.InvalidCursorException;
+import br.com.totvs.customermanagement.exception.NameAlreadyExistsException;
+import br.com.totvs.customermanagement.exception.PhoneNumberAlreadyExistsException;
+import br.com.totvs.customermanagement.exception.TotvsException;
+import br.com.totvs.customermanagement.model.Client;
+import br.com.totvs.customermanagement.model.Phone;
+import br.com.totvs.customermanagement.payload.request.PhoneRequestPayload;
+import br.com.totvs.customermanagement.repository.projection.ClientConflictRow;
+import br.com.totvs.customermanagement.util.NumberUtil;
+
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Client rules shared by {@link ClientService} and {@link ReactiveClientService}, so both APIs accept
+ * and reject exactly the same requests, whatever the repositories they read from.
+ */
+final class ClientRules {
+
+    private static final List<String> CONFLICT_KINDS =
+            List.of(ClientConflictRow.CPF, ClientConflictRow.NAME, ClientConflictRow.PHONE);
+
+    private static final List<Pattern> DUPLICATE_NUMBER_PATTERNS = List.of(
+            // PostgreSQL: Detail: Key (number)=(11900000001) already exists.
+            Pattern.compile("Key \\(number\\)=\\((.+?)\\) already exists"),
+            // H2: "PUBLIC.PHONES_NUMBER_KEY_INDEX_8 ON PUBLIC.PHONES(NUMBER NULLS FIRST) VALUES ( /* 2 */ '11900000001' )"
+            Pattern.compile("\\(NUMBER[^)]*\\) VALUES \\( /\\* \\d+ \\*/ '(.+?)' \\)"));
+
+    private ClientRules() {
+    }
+
+    /**
+     * @param cpf client CPF
+     * @throws InvalidCpfException if CPF is invalid or not written as 11 plain digits, the only form it is stored in
+     */
+    static void requireValidCpf(String cpf) {
+        if (!NumberUtil.isValidCpf(cpf) || NumberUtil.parseCpf(cpf) < 0) {
+            throw new InvalidCpfException(cpf);
+        }
+    }
+
+    /**
+     * Updates do not check the verifying digits of a new CPF, but it must still be storable.
+     *
+     * @param cpf client CPF
+     * @throws InvalidCpfException if CPF is not written as 11 plain digits
+     */
+    static void requireStorableCpf(String cpf) {
+        if (NumberUtil.parseCpf(cpf) < 0) {
+            throw new InvalidCpfException(cpf);
+        }
+    }
+
+    /**
+     * A cursor is the CPF of the last client of a page, so anything else would silently match from the first client.
+     *
+     * @param cursor the CPF of the last client of the previous page, or {@code null} or empty for the first page
+     * @throws InvalidCursorException if the cursor is not written as 11 plain digits
+     */
+    static void requireValidCursor(String cursor) {
+        if (cursor != null && !cursor.isEmpty() && NumberUtil.parseCpf(cursor) < 0) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    /**
+     * Turns the rows found by a conflicts query into the exception to throw.
+     * Every conflict is reported: the first one, by CPF, name and then phone, is returned and the others
+     * are attached to it as suppressed exceptions.
+     *
+     * @param ownerCpf the CPF of the client being updated, whose own values are not conflicts, or {@code null} on creation
+     * @param rows the rows returned by the conflicts query
+     * @return the exception to throw, or empty when no value is taken by another client
+     */
+    static Optional<TotvsException> conflictOf(String ownerCpf, List<? extends ClientConflictRow> rows) {
+        List<TotvsException> conflicts = rows.stream()
+                .filter(conflict -> !conflict.getOwnerCpf().equals(ownerCpf))
+                .sorted(Comparator.comparingInt(conflict -> CONFLICT_KINDS.indexOf(conflict.getKind())))
+                .map(conflict -> switch (conflict.getKind()) {
+                    case ClientConflictRow.CPF -> new CpfAlreadyExistsException(conflict.getOwnerCpf());
+                    case ClientConflictRow.NAME -> new NameAlreadyExistsException(conflict.getConflictingValue());
+                    default -> (TotvsException) new PhoneNumberAlreadyExistsException(conflict.getConflictingValue());
+                })
+                .toList();
+
+        if (conflicts.isEmpty()) {
+            return Optional.empty();
+        }
+        TotvsException first = conflicts.get(0);
+        conflicts.stream().skip(1).forEach(first::addSuppressed);
+        return Optional.of(first);
+    }
+
+    /**
+     * Maps a violated unique constraint, the final guard against concurrent writers, to the matching exception.
+     *
+     * @param constraint the constraint name, or any driver message that contains it
+     * @param messages the driver messages of the violation, see {@link #messagesOf(Throwable)}
+     * @param name client name
+     * @param cpf client CPF
+     * @param phones list of phones associated with client
+     * @return the exception to throw, or empty when the constraint is not one of the client unique constraints
+     */
+    static Optional<TotvsException> uniqueViolationOf(String constraint, String messages, String name, String cpf,
+                                                      List<PhoneRequestPayload> phones) {
+        String violated = constraint != null ? constraint.toLowerCase(Locale.ROOT) : "";
+        if (violated.contains(Client.CPF_UNIQUE_CONSTRAINT)) {
+            return Optional.of(new CpfAlreadyExistsException(cpf));
+        }
+        if (violated.contains(Client.NAME_UNIQUE_CONSTRAINT)) {
+            return Optional.of(new NameAlreadyExistsException(name));
+        }
+        if (violated.contains(Phone.NUMBER_UNIQUE_CONSTRAINT)) {
+            return Optional.of(new PhoneNumberAlreadyExistsException(duplicatedNumber(messages, phones)));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param violation the exception thrown for a violated constraint
+     * @return the messages of the exception, its causes and the SQL exceptions chained to them, one per line
+     */
+    static String messagesOf(Throwable violation) {
+        StringBuilder messages = new StringBuilder();
+        for (Throwable cause = violation; cause != null; cause = cause.getCause()) {
+            messages.append(cause.getMessage()).append('\n');
+            if (cause instanceof SQLException sqlException) {
+                for (SQLException next = sqlException.getNextException(); next != null; next = next.getNextException()) {
+                    messages.append(next.getMessage()).append('\n');
+                }
+            }
+        }
+        return messages.toString();
+    }
+
+    /**
+     * Finds the number named by the duplicate key detail of the driver. The messages may also hold the statement
+     * with every number of the request, so only the detail is read.
+     *
+     * @return the duplicated number of the request, or all of them when the driver does not tell which one
+     */
+    private static String duplicatedNumber(String messages, List<PhoneRequestPayload> phones) {
+        List<String> numbers = phones.stream().map(PhoneRequestPayload::number).distinct().toList();
+        if (messages != null) {
+            for (Pattern pattern : DUPLICATE_NUMBER_PATTERNS) {
+                Matcher matcher = pattern.matcher(messages);
+                while (matcher.find()) {
+                    if (numbers.contains(matcher.group(1))) {
+                        return matcher.group(1);
+                    }
+                }
+            }
+        }
+        return String.join(" or ", numbers);
+    }
+}
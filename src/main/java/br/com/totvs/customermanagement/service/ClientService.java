@@ -1,42 +1,80 @@
 package br.com.totvs.customermanagement.service;
 
+import br.com.totvs.customermanagement.config.CacheConfig;
 import br.com.totvs.customermanagement.exception.ClientNotFoundException;
 import br.com.totvs.customermanagement.exception.CpfAlreadyExistsException;
 import br.com.totvs.customermanagement.exception.CpfNotFoundException;
 import br.com.totvs.customermanagement.exception.InvalidCpfException;
+import br.com.totvs.customermanagement.exception.InvalidCursorException;
 import br.com.totvs.customermanagement.exception.NameAlreadyExistsException;
 import br.com.totvs.customermanagement.exception.PhoneNumberAlreadyExistsException;
+import br.com.totvs.customermanagement.exception.TotvsException;
 import br.com.totvs.customermanagement.model.Address;
 import br.com.totvs.customermanagement.model.Client;
 import br.com.totvs.customermanagement.model.Phone;
+import br.com.totvs.customermanagement.payload.request.AddressRequestPayload;
+import br.com.totvs.customermanagement.payload.request.ClientPatchRequestPayload;
 import br.com.totvs.customermanagement.payload.request.ClientRequestPayload;
+import br.com.totvs.customermanagement.payload.request.ClientSearchRequestPayload;
 import br.com.totvs.customermanagement.payload.request.PhoneRequestPayload;
 import br.com.totvs.customermanagement.payload.response.AddressResponsePayload;
+import br.com.totvs.customermanagement.payload.response.ClientPageResponsePayload;
 import br.com.totvs.customermanagement.payload.response.ClientResponsePayload;
 import br.com.totvs.customermanagement.payload.response.PhoneResponsePayload;
 import br.com.totvs.customermanagement.repository.AddressRepository;
 import br.com.totvs.customermanagement.repository.ClientRepository;
+import br.com.totvs.customermanagement.repository.ClientSpecifications;
 import br.com.totvs.customermanagement.repository.PhoneRepository;
-import br.com.totvs.customermanagement.util.NumberUtil;
-import jakarta.transaction.Transactional;
+import br.com.totvs.customermanagement.repository.projection.ClientAggregateRow;
+import io.micrometer.core.annotation.Timed;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "totvs.service", histogram = true)
 public class ClientService {
 
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+    public static final int DELETE_BATCH_SIZE = 1000;
+
     private final ClientRepository clientRepository;
     private final PhoneRepository phoneRepository;
     private final AddressRepository addressRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClientKeyFilterService keyFilter;
 
     public ClientService(ClientRepository clientRepository, PhoneRepository phoneRepository,
-                         AddressRepository addressRepository) {
+                         AddressRepository addressRepository, ApplicationEventPublisher eventPublisher,
+                         ClientKeyFilterService keyFilter) {
         this.clientRepository = clientRepository;
         this.phoneRepository = phoneRepository;
         this.addressRepository = addressRepository;
+        this.eventPublisher = eventPublisher;
+        this.keyFilter = keyFilter;
     }
 
     /**
@@ -51,21 +89,18 @@ public class ClientService {
      * @throws PhoneNumberAlreadyExistsException if any phone number already exists
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CLIENTS_CACHE, key = "#result.cpf()")
     public ClientResponsePayload createClient(ClientRequestPayload request) {
         validateClientCreate(request.name(), request.cpf(), request.phones());
 
-        final Client client = this.clientRepository.save(Client.builder().name(request.name()).cpf(request.cpf()).build());
-
-        List<Phone> phones = request.phones().stream()
-            .map(phoneRequest -> Phone.builder()
-                    .number(phoneRequest.number())
-                    .client(client)
-                    .build())
-            .collect(Collectors.toList());
-
-        this.phoneRepository.saveAll(phones);
-
-        List<Address> addresses = request.addresses().stream()
+        Client client = Client.builder().name(request.name()).cpf(request.cpf()).build();
+        client.setPhones(request.phones().stream()
+                .map(phoneRequest -> Phone.builder()
+                        .number(phoneRequest.number())
+                        .client(client)
+                        .build())
+                .collect(Collectors.toList()));
+        client.setAddresses(request.addresses().stream()
                 .map(addressRequest -> Address.builder()
                         .street(addressRequest.street())
                         .complement(addressRequest.complement())
@@ -74,70 +109,139 @@ public class ClientService {
                         .zipCode(addressRequest.zipCode())
                         .client(client)
                         .build())
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
 
-        this.addressRepository.saveAll(addresses);
+        // Phones and addresses are persisted by cascade. Their ids are generated in memory, so the flush sends
+        // one JDBC batch per table (hibernate.jdbc.batch_size) instead of one round trip per row.
+        this.clientRepository.save(client);
+        flushUniqueValues(request.name(), request.cpf(), request.phones());
 
-        return new ClientResponsePayload(client.getName(), client.getCpf(),
-                phones.stream().map(phone -> new PhoneResponsePayload(phone.getNumber())).toList(),
-                addresses.stream().map(address -> new AddressResponsePayload(address.getStreet(),
+        ClientResponsePayload response = new ClientResponsePayload(client.getName(), client.getCpf(),
+                client.getPhones().stream().map(phone -> new PhoneResponsePayload(phone.getNumber())).toList(),
+                client.getAddresses().stream().map(address -> new AddressResponsePayload(address.getStreet(),
                         address.getComplement(), address.getCity(), address.getState(), address.getZipCode()
                 )).toList()
         );
+        this.eventPublisher.publishEvent(ClientChangedEvent.created(response));
+        return response;
     }
 
     /**
      * Retrieves a client by their CPF and returns a response payload containing their details,
      * including associated phone numbers and addresses.
+     * The whole aggregate is read with a single query, without loading managed entities,
+     * and kept in the clients cache until the client is updated or deleted. Concurrent misses each run the query,
+     * and one that raced with a write is not kept, see {@link CacheConfig}. The transaction is read-only, so a miss
+     * may be read from a replica; such a read is returned but not kept, since the replica may still have a client
+     * already changed or deleted.
      *
      * @param cpf the CPF (Cadastro de Pessoa Física) identifier of the client.
      * @return a {@link ClientResponsePayload} object containing the client's name, CPF,
      *         a list of their phone numbers, and a list of their addresses.
      * @throws ClientNotFoundException if no client is found with the given CPF.
      */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CLIENTS_CACHE, key = "#cpf", sync = true)
     public ClientResponsePayload getClientByCpf(String cpf) {
-        Client client = this.clientRepository.findByCpf(cpf)
-                .orElseThrow(() -> new ClientNotFoundException(cpf));
+        List<ClientAggregateRow> rows = this.clientRepository.findAggregateByCpf(cpf);
 
-        return new ClientResponsePayload(
-                client.getName(),
-                client.getCpf(),
-                this.phoneRepository.findByClient(client).stream().map(phone ->
-                        new PhoneResponsePayload(phone.getNumber())).toList(),
-                this.addressRepository.findByClient(client).stream().map(
-                        address -> new AddressResponsePayload(
-                                address.getStreet(), address.getComplement(), address.getCity(),
-                                address.getState(), address.getZipCode())).toList());
+        String name = null;
+        List<PhoneResponsePayload> phones = new ArrayList<>();
+        List<AddressResponsePayload> addresses = new ArrayList<>();
+        for (ClientAggregateRow row : rows) {
+            switch (row.getKind()) {
+                case ClientAggregateRow.CLIENT -> name = row.getName();
+                case ClientAggregateRow.PHONE -> phones.add(new PhoneResponsePayload(row.getNumber()));
+                case ClientAggregateRow.ADDRESS -> addresses.add(new AddressResponsePayload(row.getStreet(),
+                        row.getComplement(), row.getCity(), row.getState(), row.getZipCode()));
+                default -> throw new IllegalStateException("Unknown client aggregate row kind " + row.getKind());
+            }
+        }
+
+        if (name == null) {
+            throw new ClientNotFoundException(cpf);
+        }
+        return new ClientResponsePayload(name, cpf, List.copyOf(phones), List.copyOf(addresses));
     }
 
     /**
      * Retrieves all clients with their phones and addresses.
+     * Clients are read in keyset pages, so each page costs a fixed number of queries.
      *
      * @return a list of all clients with detailed information
      */
-    @Transactional()
+    @Transactional(readOnly = true)
     public List<ClientResponsePayload> getAllClients() {
-        List<Client> clients = this.clientRepository.findAll();
-
-        return clients.stream().map(client -> {
-            List<Phone> phones = this.phoneRepository.findByClient(client);
-            List<Address> addresses = this.addressRepository.findByClient(client);
-
-            return new ClientResponsePayload(
-                    client.getName(),
-                    client.getCpf(),
-                    phones.stream().map(phone -> new PhoneResponsePayload(phone.getNumber())).toList(),
-                    addresses.stream().map(address -> new AddressResponsePayload(
-                            address.getStreet(), address.getComplement(), address.getCity(),
-                            address.getState(), address.getZipCode()
-                    )).toList()
-            );
-        }).toList();
+        List<ClientResponsePayload> clients = new ArrayList<>();
+        String cursor = null;
+        do {
+            ClientPageResponsePayload page = getClientsPage(cursor, MAX_PAGE_SIZE);
+            clients.addAll(page.clients());
+            cursor = page.next();
+        } while (cursor != null);
+        return clients;
+    }
+
+    /**
+     * Retrieves a page of clients ordered by CPF, starting right after the given cursor.
+     * Uses keyset pagination, so the cost of a page does not grow with its position in the table.
+     *
+     * @param cursor the CPF of the last client of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of clients in the page, clamped between 1 and {@link #MAX_PAGE_SIZE}
+     * @return a {@link ClientPageResponsePayload} with the clients and the cursor of the next page,
+     *         which is {@code null} when there are no more clients
+     * @throws InvalidCursorException if the cursor is not a CPF written as 11 plain digits
+     */
+    @Transactional(readOnly = true)
+    public ClientPageResponsePayload getClientsPage(String cursor, int limit) {
+        ClientRules.requireValidCursor(cursor);
+        int pageSize = pageSize(limit);
+        List<Client> clients = this.clientRepository.findByCpfGreaterThanOrderByCpfAsc(
+                cursor == null ? "" : cursor, Limit.of(pageSize + 1));
+        return toPage(clients, pageSize);
+    }
+
+    /**
+     * Searches clients by name prefix, phone number prefix, city, state and zip code, in pages ordered by CPF.
+     * Every present criterion must match; names, cities and states are compared ignoring case.
+     *
+     * @param criteria the search criteria, absent or blank ones are ignored
+     * @param cursor the CPF of the last client of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of clients in the page, clamped between 1 and {@link #MAX_PAGE_SIZE}
+     * @return a {@link ClientPageResponsePayload} with the matching clients and the cursor of the next page,
+     *         which is {@code null} when there are no more matches
+     * @throws InvalidCursorException if the cursor is not a CPF written as 11 plain digits
+     */
+    @Transactional(readOnly = true)
+    public ClientPageResponsePayload searchClients(ClientSearchRequestPayload criteria, String cursor, int limit) {
+        List<Specification<Client>> specifications = new ArrayList<>();
+        if (StringUtils.hasText(criteria.name())) {
+            specifications.add(ClientSpecifications.nameStartsWith(criteria.name().strip()));
+        }
+        if (StringUtils.hasText(criteria.phone())) {
+            specifications.add(ClientSpecifications.phoneStartsWith(criteria.phone().strip()));
+        }
+        if (StringUtils.hasText(criteria.city()) || StringUtils.hasText(criteria.state())
+                || StringUtils.hasText(criteria.zipCode())) {
+            specifications.add(ClientSpecifications.hasAddress(textOrNull(criteria.city()),
+                    textOrNull(criteria.state()), textOrNull(criteria.zipCode())));
+        }
+        ClientRules.requireValidCursor(cursor);
+        if (StringUtils.hasLength(cursor)) {
+            specifications.add(ClientSpecifications.cpfAfter(cursor));
+        }
+
+        int pageSize = pageSize(limit);
+        List<Client> clients = this.clientRepository.findBy(Specification.allOf(specifications),
+                query -> query.sortBy(Sort.by("cpf")).limit(pageSize + 1).all());
+        return toPage(clients, pageSize);
     }
 
     /**
      * Updates an existing client identified by CPF with new data.
-     * Validates updates to ensure data integrity.
+     * Validates updates to ensure data integrity. Phones and addresses are merged into the stored ones,
+     * so unchanged rows are neither deleted nor re-inserted. The client is resolved by its natural id,
+     * see {@link ClientRepository#loadByCpf(String)}.
      *
      * @param cpf the CPF of the client to update
      * @param request the new client data
@@ -148,67 +252,104 @@ public class ClientService {
      * @throws PhoneNumberAlreadyExistsException if any phone number is already in use by another client
      */
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CLIENTS_CACHE, key = "#cpf"),
+            @CacheEvict(cacheNames = CacheConfig.CLIENTS_CACHE, key = "#result.cpf()", condition = "#cpf != #request.cpf()")})
     public ClientResponsePayload updateClient(String cpf, ClientRequestPayload request) {
-        Client existingClient = this.clientRepository.findByCpf(cpf)
+        Client client = this.clientRepository.loadByCpf(cpf)
                 .orElseThrow(() -> new CpfNotFoundException(cpf));
 
-        validateClientOnUpdate(cpf, request.name(), request.cpf(), request.phones());
+        validateClientOnUpdate(client, request.name(), request.cpf(), request.phones());
 
-        existingClient.setName(request.name());
-        existingClient.setCpf(request.cpf());
-        final Client client = this.clientRepository.save(existingClient);
+        client.setName(request.name());
+        client.setCpf(request.cpf());
+        mergePhones(client, request.phones());
+        mergeAddresses(client, request.addresses());
+        flushUniqueValues(request.name(), request.cpf(), request.phones());
 
-        this.phoneRepository.deleteAllByClient(client);
-        this.phoneRepository.deleteAllByClient(client);
-        List<Phone> phones = request.phones().stream()
-                .map(phoneRequest -> Phone.builder()
-                        .number(phoneRequest.number())
-                        .client(client)
-                        .build())
-                .toList();
-        this.phoneRepository.saveAll(phones);
+        return publishChanged(cpf, toResponse(client, client.getPhones(), client.getAddresses()));
+    }
 
-        this.addressRepository.deleteAllByClient(client);
-        List<Address> addresses = request.addresses().stream()
-                .map(addressRequest -> Address.builder()
-                        .street(addressRequest.street())
-                        .complement(addressRequest.complement())
-                        .city(addressRequest.city())
-                        .state(addressRequest.state())
-                        .zipCode(addressRequest.zipCode())
-                        .client(client)
-                        .build())
-                .toList();
-        this.addressRepository.saveAll(addresses);
+    /**
+     * Partially updates an existing client identified by CPF.
+     * Only the fields present in the request are changed; absent phones or addresses are left untouched.
+     * The client is resolved by its natural id, see {@link ClientRepository#loadByCpf(String)}.
+     *
+     * @param cpf the CPF of the client to update
+     * @param request the fields to change
+     * @return the updated client data as a response payload
+     * @throws CpfNotFoundException if the client with the given CPF does not exist
+     * @throws NameAlreadyExistsException if the new name already exists for another client
+     * @throws CpfAlreadyExistsException if the new CPF already exists for another client
+     * @throws PhoneNumberAlreadyExistsException if any phone number is already in use by another client
+     */
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CLIENTS_CACHE, key = "#cpf"),
+            @CacheEvict(cacheNames = CacheConfig.CLIENTS_CACHE, key = "#result.cpf()",
+                    condition = "#request.cpf() != null && #cpf != #request.cpf()")})
+    public ClientResponsePayload patchClient(String cpf, ClientPatchRequestPayload request) {
+        Client client = this.clientRepository.loadByCpf(cpf)
+                .orElseThrow(() -> new CpfNotFoundException(cpf));
 
-        return new ClientResponsePayload(
-                client.getName(),
-                client.getCpf(),
-                phones.stream()
-                        .map(phone -> new PhoneResponsePayload(phone.getNumber()))
-                        .toList(),
-                addresses.stream()
-                        .map(address -> new AddressResponsePayload(
-                                address.getStreet(), address.getComplement(), address.getCity(), address.getState(), address.getZipCode()
-                        ))
-                        .toList()
-        );
+        String name = request.name() != null ? request.name() : client.getName();
+        String newCpf = request.cpf() != null ? request.cpf() : client.getCpf();
+        List<PhoneRequestPayload> phones = request.phones() != null ? request.phones() : List.of();
+        validateClientOnUpdate(client, name, newCpf, phones);
+
+        client.setName(name);
+        client.setCpf(newCpf);
+        if (request.phones() != null) {
+            mergePhones(client, request.phones());
+        }
+        if (request.addresses() != null) {
+            mergeAddresses(client, request.addresses());
+        }
+        flushUniqueValues(name, newCpf, phones);
+
+        return publishChanged(cpf, toResponse(client, client.getPhones(), client.getAddresses()));
     }
 
     /**
      * Deletes a client identified by CPF along with their phones and addresses.
+     * The client is deleted with a single statement and the database cascades the delete to the other rows.
      *
      * @param cpf the CPF of the client to delete
      * @throws CpfNotFoundException if no client with the given CPF exists
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CLIENTS_CACHE, key = "#cpf")
     public void deleteClient(String cpf) {
-        Client client = this.clientRepository.findByCpf(cpf)
-                .orElseThrow(() -> new CpfNotFoundException(cpf));
+        if (this.clientRepository.deleteByCpf(cpf) == 0) {
+            throw new CpfNotFoundException(cpf);
+        }
+        this.eventPublisher.publishEvent(ClientChangedEvent.deleted(cpf));
+    }
 
-        this.phoneRepository.deleteAllByClient(client);
-        this.addressRepository.deleteAllByClient(client);
-        this.clientRepository.delete(client);
+    /**
+     * Deletes the clients identified by the given CPFs along with their phones and addresses, in one transaction.
+     * Each batch of {@link #DELETE_BATCH_SIZE} CPFs first reads which of them have a client, then deletes those with
+     * one statement and the database cascades the deletes to the other rows. The whole clients cache is cleared once
+     * the transaction commits and a {@link ClientChangedEvent} is published for every client deleted.
+     *
+     * @param cpfs the CPFs of the clients to delete; CPFs without a client are ignored
+     * @return the number of clients deleted
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CLIENTS_CACHE, allEntries = true)
+    public int deleteClients(Collection<String> cpfs) {
+        List<String> distinctCpfs = cpfs.stream().distinct().toList();
+        int deleted = 0;
+        for (int from = 0; from < distinctCpfs.size(); from += DELETE_BATCH_SIZE) {
+            List<String> existingCpfs = this.clientRepository.findExistingCpfs(
+                    distinctCpfs.subList(from, Math.min(from + DELETE_BATCH_SIZE, distinctCpfs.size())));
+            if (existingCpfs.isEmpty()) {
+                continue;
+            }
+            deleted += this.clientRepository.deleteByCpfIn(existingCpfs);
+            existingCpfs.forEach(cpf -> this.eventPublisher.publishEvent(ClientChangedEvent.deleted(cpf)));
+        }
+        return deleted;
     }
 
     /**
@@ -223,52 +364,223 @@ public class ClientService {
      * @throws PhoneNumberAlreadyExistsException if any phone number already exists
      */
     private void validateClientCreate(String name, String cpf, List<PhoneRequestPayload> phones) {
-        if (!NumberUtil.isValidCpf(cpf)) {
-            throw new InvalidCpfException(cpf);
-        }
-        if (this.clientRepository.existsClientByCpf(cpf)) {
-            throw new CpfAlreadyExistsException(cpf);
-        }
-        if (this.clientRepository.existsClientByName(name)) {
-            throw new NameAlreadyExistsException(name);
-        }
-
-        for (PhoneRequestPayload phone : phones) {
-            if (this.phoneRepository.existsPhoneByNumber((phone.number()))) {
-                throw new PhoneNumberAlreadyExistsException(phone.number());
-            }
-        }
+        ClientRules.requireValidCpf(cpf);
+        validateUniqueness(null, name, cpf, phones);
     }
 
     /**
      * Validates client data during update operation.
      *
-     * @param originalCpf the original CPF of the client being updated
+     * @param client the client being updated, with its current values
      * @param newName the new client name
      * @param newCpf the new CPF
      * @param phones list of phones associated with client
+     * @throws InvalidCpfException if new CPF is not made of 11 digits
      * @throws NameAlreadyExistsException if new name already exists for another client
      * @throws CpfAlreadyExistsException if new CPF already exists for another client
      * @throws PhoneNumberAlreadyExistsException if any phone number is in use by another client
      */
-    private void validateClientOnUpdate(String originalCpf, String newName, String newCpf, List<PhoneRequestPayload> phones) {
-        if (!newName.equals(this.clientRepository.findNameByCpf(originalCpf).orElse(null))
-                && this.clientRepository.existsClientByName(newName)) {
-            throw new NameAlreadyExistsException(newName);
+    private void validateClientOnUpdate(Client client, String newName, String newCpf, List<PhoneRequestPayload> phones) {
+        ClientRules.requireStorableCpf(newCpf);
+        validateUniqueness(client, newName, newCpf, phones);
+    }
+
+    /**
+     * Checks the CPF, name and phone numbers of a request against all other clients with a single query, skipped when
+     * the {@link ClientKeyFilterService} tells that none of them is taken.
+     * Every conflict is reported: the first one is thrown and the others are attached to it as suppressed exceptions,
+     * see {@link ClientRules#conflictOf(String, List)}.
+     *
+     * @param owner the client being updated, whose own values are not conflicts, or {@code null} on creation
+     * @param name client name
+     * @param cpf client CPF
+     * @param phones list of phones associated with client
+     * @throws CpfAlreadyExistsException if CPF is already registered for another client
+     * @throws NameAlreadyExistsException if client name already exists for another client
+     * @throws PhoneNumberAlreadyExistsException if any phone number is in use by another client
+     */
+    private void validateUniqueness(Client owner, String name, String cpf, List<PhoneRequestPayload> phones) {
+        List<String> numbers = phones.stream().map(PhoneRequestPayload::number).toList();
+        if (isDefinitelyUnique(owner, name, cpf, numbers)) {
+            return;
         }
+        String ownerCpf = owner != null ? owner.getCpf() : null;
+        Optional<TotvsException> conflict = ClientRules.conflictOf(ownerCpf, this.clientRepository.findConflicts(cpf, name, numbers));
+        if (conflict.isPresent()) {
+            throw conflict.get();
+        }
+        this.keyFilter.recordFalsePositive();
+    }
 
-        if (!newCpf.equals(originalCpf) && this.clientRepository.existsClientByCpf(newCpf)) {
-            throw new CpfAlreadyExistsException(newCpf);
+    /**
+     * Asks the key filter about the values of a request that the client being updated does not already have.
+     * The phones of the client are only read when the filter is loaded and the request has phones.
+     */
+    private boolean isDefinitelyUnique(Client owner, String name, String cpf, List<String> numbers) {
+        if (!this.keyFilter.isLoaded()) {
+            return false;
+        }
+        if (owner == null) {
+            return this.keyFilter.definitelyAbsent(cpf, name, numbers);
         }
+        List<String> newNumbers = numbers;
+        if (!numbers.isEmpty()) {
+            Set<String> ownNumbers = owner.getPhones().stream().map(Phone::getNumber).collect(Collectors.toSet());
+            newNumbers = numbers.stream().filter(number -> !ownNumbers.contains(number)).toList();
+        }
+        return this.keyFilter.definitelyAbsent(cpf.equals(owner.getCpf()) ? null : cpf,
+                name.equals(owner.getName()) ? null : name, newNumbers);
+    }
 
-        for (PhoneRequestPayload phone : phones) {
-            if (this.phoneRepository.existsPhoneByNumber(phone.number())) {
-                Optional<Client> existingClient = this.phoneRepository.findClientByPhoneNumber(phone.number());
-                if (existingClient.isEmpty() || !existingClient.get().getCpf().equals(originalCpf)) {
-                    throw new PhoneNumberAlreadyExistsException(phone.number());
-                }
+    /**
+     * Flushes pending changes so that the database unique constraints, the final guard against concurrent
+     * writers, are checked here and their violations surface as the matching {@link TotvsException}.
+     *
+     * @param name client name
+     * @param cpf client CPF
+     * @param phones list of phones associated with client
+     */
+    private void flushUniqueValues(String name, String cpf, List<PhoneRequestPayload> phones) {
+        try {
+            this.clientRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            // Hibernate cannot name the constraint of every batch failure, the driver message still names it
+            String constraint = e.getCause() instanceof ConstraintViolationException violation
+                    && violation.getConstraintName() != null
+                    ? violation.getConstraintName() : e.getMostSpecificCause().getMessage();
+            Optional<TotvsException> translated = ClientRules.uniqueViolationOf(constraint, ClientRules.messagesOf(e),
+                    name, cpf, phones);
+            if (translated.isPresent()) {
+                throw translated.get();
             }
+            throw e;
         }
     }
 
+    private static void mergePhones(Client client, List<PhoneRequestPayload> requested) {
+        merge(client.getPhones(), requested,
+                (phone, request) -> phone.getNumber().equals(request.number()),
+                (phone, request) -> phone.setNumber(request.number()),
+                request -> Phone.builder().number(request.number()).client(client).build());
+    }
+
+    private static void mergeAddresses(Client client, List<AddressRequestPayload> requested) {
+        merge(client.getAddresses(), requested,
+                (address, request) -> Objects.equals(address.getStreet(), request.street())
+                        && Objects.equals(address.getComplement(), request.complement())
+                        && Objects.equals(address.getCity(), request.city())
+                        && Objects.equals(address.getState(), request.state())
+                        && Objects.equals(address.getZipCode(), request.zipCode()),
+                (address, request) -> {
+                    address.setStreet(request.street());
+                    address.setComplement(request.complement());
+                    address.setCity(request.city());
+                    address.setState(request.state());
+                    address.setZipCode(request.zipCode());
+                },
+                request -> Address.builder()
+                        .street(request.street())
+                        .complement(request.complement())
+                        .city(request.city())
+                        .state(request.state())
+                        .zipCode(request.zipCode())
+                        .client(client)
+                        .build());
+    }
+
+    /**
+     * Makes a stored collection match the requested items while touching as few rows as possible.
+     * <p>
+     * Stored entities equal to a requested item are kept as they are. The remaining stored entities
+     * are reused for the remaining requested items, becoming updates, and whatever is left over on either
+     * side becomes an insert or, through orphan removal, a delete.
+     * </p>
+     *
+     * @param current the stored entities, changed in place
+     * @param requested the requested items
+     * @param matches whether a stored entity already holds a requested item
+     * @param update copies a requested item into a stored entity
+     * @param create builds a new entity for a requested item
+     */
+    private static <E, R> void merge(List<E> current, List<R> requested, BiPredicate<E, R> matches,
+                                     BiConsumer<E, R> update, Function<R, E> create) {
+        List<E> unmatched = new ArrayList<>(current);
+        List<R> missing = new ArrayList<>();
+        for (R request : requested) {
+            Optional<E> match = unmatched.stream().filter(entity -> matches.test(entity, request)).findFirst();
+            if (match.isPresent()) {
+                unmatched.remove(match.get());
+            } else {
+                missing.add(request);
+            }
+        }
+
+        int reused = Math.min(unmatched.size(), missing.size());
+        for (int i = 0; i < reused; i++) {
+            update.accept(unmatched.get(i), missing.get(i));
+        }
+        for (R request : missing.subList(reused, missing.size())) {
+            current.add(create.apply(request));
+        }
+        current.removeAll(unmatched.subList(reused, unmatched.size()));
+    }
+
+    private ClientResponsePayload publishChanged(String previousCpf, ClientResponsePayload client) {
+        this.eventPublisher.publishEvent(new ClientChangedEvent(previousCpf, client));
+        return client;
+    }
+
+    private static int pageSize(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+    }
+
+    private static String textOrNull(String value) {
+        return StringUtils.hasText(value) ? value.strip() : null;
+    }
+
+    /**
+     * Builds a keyset page from up to {@code pageSize + 1} clients, the extra one only telling that a next page exists.
+     */
+    private ClientPageResponsePayload toPage(List<Client> clients, int pageSize) {
+        boolean hasNext = clients.size() > pageSize;
+        List<Client> page = hasNext ? clients.subList(0, pageSize) : clients;
+
+        return new ClientPageResponsePayload(toResponses(page),
+                hasNext ? page.get(page.size() - 1).getCpf() : null);
+    }
+
+    /**
+     * Maps clients to response payloads, loading the phones and addresses of all of them
+     * with one query each instead of two queries per client.
+     *
+     * @param clients the clients to map
+     * @return the response payloads, in the same order as the given clients
+     */
+    private List<ClientResponsePayload> toResponses(List<Client> clients) {
+        if (clients.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, List<Phone>> phonesByClient = this.phoneRepository.findByClientIn(clients).stream()
+                .collect(Collectors.groupingBy(phone -> phone.getClient().getId()));
+        Map<UUID, List<Address>> addressesByClient = this.addressRepository.findByClientIn(clients).stream()
+                .collect(Collectors.groupingBy(address -> address.getClient().getId()));
+
+        return clients.stream().map(client -> toResponse(client,
+                phonesByClient.getOrDefault(client.getId(), List.of()),
+                addressesByClient.getOrDefault(client.getId(), List.of()))).toList();
+    }
+
+    private ClientResponsePayload toResponse(Client client, List<Phone> phones, List<Address> addresses) {
+        return new ClientResponsePayload(
+                client.getName(),
+                client.getCpf(),
+                phones.stream().map(phone -> new PhoneResponsePayload(phone.getNumber())).toList(),
+                addresses.stream().map(address -> new AddressResponsePayload(
+                        address.getStreet(), address.getComplement(), address.getCity(),
+                        address.getState(), address.getZipCode()
+                )).toList()
+        );
+    }
+
 }
@@ -0,0 +1,211 @@
+package br.com.totvs.customermanagement.service;
+
+import br.com.totvs.customermanagement.payload.response.ClientSuggestionPayload;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+
+/**
+ * In-process index of client names and phone numbers for search-as-you-type, safe for concurrent use.
+ * <p>
+ * Every word of a normalized name, with the rest of the name after it, and the digits of every phone number are
+ * kept as sorted keys ending with the client CPF, so a prefix query is a range scan over a skip list and costs
+ * {@code O(log n)} plus the suggestions returned. Names are normalized by dropping accents and case, so
+ * {@code "jose"} finds {@code "José Álvares"}, and {@code "alv"} finds it too.
+ * </p>
+ * <p>
+ * A new index is filled by {@link #load} until {@link #finishLoading} and kept up to date by {@link #put} and
+ * {@link #remove}. A client changed while loading is marked, and the rows read for it by the load, which may predate
+ * the change, are ignored. Changes to a client are applied atomically with respect to each other, but a query
+ * running at the same time may miss a client being changed.
+ * </p>
+ */
+public final class ClientTypeaheadIndex {
+
+    private static final char SEPARATOR = '\0';
+
+    private final NavigableSet<String> names = new ConcurrentSkipListSet<>();
+    private final NavigableSet<String> phones = new ConcurrentSkipListSet<>();
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private volatile Set<String> changedWhileLoading = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Adds a client read by the initial load, unless it was changed since the load started.
+     */
+    public void load(String cpf, String name, Collection<String> numbers) {
+        Set<String> changed = this.changedWhileLoading;
+        this.entries.compute(cpf, (key, current) -> {
+            if (changed != null && changed.contains(key)) {
+                return current;
+            }
+            unindex(key, current);
+            return index(key, new Entry(name, numbers.toArray(String[]::new)));
+        });
+    }
+
+    /**
+     * Marks the end of the initial load; from now on the index only changes through {@link #put} and {@link #remove}.
+     */
+    public void finishLoading() {
+        this.changedWhileLoading = null;
+    }
+
+    /**
+     * Adds or replaces a client.
+     *
+     * @param previousCpf the CPF the client had before the change, or {@code null} for a new client
+     * @param cpf the current CPF of the client
+     * @param name the current name of the client
+     * @param numbers the current phone numbers of the client
+     */
+    public void put(String previousCpf, String cpf, String name, Collection<String> numbers) {
+        if (previousCpf != null && !previousCpf.equals(cpf)) {
+            remove(previousCpf);
+        }
+        Entry entry = new Entry(name, numbers.toArray(String[]::new));
+        this.entries.compute(cpf, (key, current) -> {
+            markChanged(key);
+            unindex(key, current);
+            return index(key, entry);
+        });
+    }
+
+    public void remove(String cpf) {
+        this.entries.compute(cpf, (key, current) -> {
+            markChanged(key);
+            unindex(key, current);
+            return null;
+        });
+    }
+
+    /**
+     * Suggests clients for what has been typed so far.
+     * <p>
+     * A query made only of digits and phone punctuation, such as {@code "(11) 9888"}, matches the beginning of phone
+     * numbers; any other query matches the beginning of a word of the client name, ignoring accents and case.
+     * </p>
+     *
+     * @param query the text typed so far
+     * @param limit the maximum number of suggestions
+     * @return up to {@code limit} clients, ordered by the matched name or phone number
+     */
+    public List<ClientSuggestionPayload> suggest(String query, int limit) {
+        String digits = phoneDigits(query);
+        NavigableSet<String> keys = digits != null ? this.phones : this.names;
+        String prefix = digits != null ? digits : normalizeName(query);
+        if (prefix.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        Set<String> cpfs = new LinkedHashSet<>();
+        for (String key : keys.tailSet(prefix, true)) {
+            if (!key.startsWith(prefix) || cpfs.size() == limit) {
+                break;
+            }
+            cpfs.add(key.substring(key.lastIndexOf(SEPARATOR) + 1));
+        }
+
+        List<ClientSuggestionPayload> suggestions = new ArrayList<>(cpfs.size());
+        for (String cpf : cpfs) {
+            Entry entry = this.entries.get(cpf);
+            if (entry != null) {
+                suggestions.add(new ClientSuggestionPayload(entry.name(), cpf));
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * @return the number of indexed clients
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Lowercases a name, drops its accents and collapses its whitespace.
+     */
+    static String normalizeName(String name) {
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        boolean space = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK || Character.isISOControl(c)) {
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                space = !normalized.isEmpty();
+                continue;
+            }
+            if (space) {
+                normalized.append(' ');
+                space = false;
+            }
+            normalized.append(Character.toLowerCase(c));
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Returns the digits of a query that looks like a phone number, or {@code null} when it contains anything else.
+     */
+    static String phoneDigits(String query) {
+        StringBuilder digits = new StringBuilder(query.length());
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            } else if (c != '+' && c != '(' && c != ')' && c != '-' && c != '.' && !Character.isWhitespace(c)) {
+                return null;
+            }
+        }
+        return digits.isEmpty() ? null : digits.toString();
+    }
+
+    private Entry index(String cpf, Entry entry) {
+        forEachKey(cpf, entry, this.names::add, this.phones::add);
+        return entry;
+    }
+
+    private void unindex(String cpf, Entry entry) {
+        if (entry != null) {
+            forEachKey(cpf, entry, this.names::remove, this.phones::remove);
+        }
+    }
+
+    private static void forEachKey(String cpf, Entry entry, Consumer<String> name, Consumer<String> phone) {
+        String normalized = normalizeName(entry.name());
+        int start = normalized.isEmpty() ? -1 : 0;
+        while (start >= 0) {
+            name.accept(normalized.substring(start) + SEPARATOR + cpf);
+            int space = normalized.indexOf(' ', start);
+            start = space < 0 ? -1 : space + 1;
+        }
+        for (String number : entry.numbers()) {
+            String digits = phoneDigits(number);
+            if (digits != null) {
+                phone.accept(digits + SEPARATOR + cpf);
+            }
+        }
+    }
+
+    private void markChanged(String cpf) {
+        Set<String> changed = this.changedWhileLoading;
+        if (changed != null) {
+            changed.add(cpf);
+        }
+    }
+
+    private record Entry(String name, String[] numbers) {
+    }
+}
@@ -0,0 +1,198 @@
+package br.com.totvs.customermanagement.service;
+
+import br.com.totvs.customermanagement.payload.request.ClientSearchRequestPayload;
+import br.com.totvs.customermanagement.payload.response.ClientResponsePayload;
+import br.com.totvs.customermanagement.payload.response.ClientSuggestionPayload;
+import br.com.totvs.customermanagement.payload.response.PhoneResponsePayload;
+import br.com.totvs.customermanagement.repository.ClientRepository;
+import br.com.totvs.customermanagement.repository.projection.ClientTypeaheadRow;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Suggests clients while their name or phone number is being typed.
+ * <p>
+ * When {@code totvs.typeahead.enabled} is set, suggestions come from a {@link ClientTypeaheadIndex} held in memory,
+ * loaded once the application is ready and kept in sync with the {@link ClientChangedEvent}s of committed writes,
+ * so typing never reaches the database. Until the index is loaded, or when it is disabled, suggestions fall back to
+ * {@link ClientService#searchClients}, which only matches the beginning of the whole name.
+ * </p>
+ * <p>
+ * The load splits the CPFs in ten ranges, one per leading digit, and reads them with up to
+ * {@code totvs.typeahead.load-parallelism} concurrent streaming queries, each in its own transaction on the primary
+ * database, since an index loaded from a lagging replica would miss the changes committed meanwhile.
+ * </p>
+ */
+@Service
+@Timed(value = "totvs.service", histogram = true)
+public class ClientTypeaheadService {
+
+    public static final int DEFAULT_SUGGESTIONS = 10;
+    public static final int MAX_SUGGESTIONS = 50;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClientTypeaheadService.class);
+
+    private final ClientRepository clientRepository;
+    private final ClientService clientService;
+    private final TransactionTemplate loadTransaction;
+    private final boolean enabled;
+    private final int loadParallelism;
+
+    private volatile ClientTypeaheadIndex index;
+    private volatile ClientTypeaheadIndex loading;
+
+    public ClientTypeaheadService(ClientRepository clientRepository, ClientService clientService,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${totvs.typeahead.enabled:false}") boolean enabled,
+                                  @Value("${totvs.typeahead.load-parallelism:4}") int loadParallelism) {
+        this.clientRepository = clientRepository;
+        this.clientService = clientService;
+        // Not read-only, so that the load reads the primary and never a lagging replica
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.loadParallelism = Math.max(loadParallelism, 1);
+    }
+
+    /**
+     * Suggests clients whose name has a word starting with the query, ignoring accents and case, or, for a query made
+     * of digits, with a phone number starting with them.
+     *
+     * @param query the text typed so far
+     * @param limit the maximum number of suggestions, clamped between 1 and {@link #MAX_SUGGESTIONS}
+     * @return the suggested clients
+     */
+    public List<ClientSuggestionPayload> suggestClients(String query, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_SUGGESTIONS);
+        ClientTypeaheadIndex current = this.index;
+        if (current != null) {
+            return current.suggest(query, size);
+        }
+
+        String digits = ClientTypeaheadIndex.phoneDigits(query);
+        if (digits == null && query.isBlank()) {
+            return List.of();
+        }
+        ClientSearchRequestPayload criteria = digits != null
+                ? new ClientSearchRequestPayload(null, digits, null, null, null)
+                : new ClientSearchRequestPayload(query, null, null, null, null);
+        return this.clientService.searchClients(criteria, null, size).clients().stream()
+                .map(client -> new ClientSuggestionPayload(client.name(), client.cpf()))
+                .toList();
+    }
+
+    /**
+     * @return whether suggestions are served by the in-memory index
+     */
+    public boolean isIndexLoaded() {
+        return this.index != null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (this.enabled) {
+            loadIndex();
+        }
+    }
+
+    /**
+     * Loads a new index from the database in the background and starts serving suggestions from it once loaded.
+     * Changes committed during the load are applied to both the index being served and the new one.
+     *
+     * @return completes once the new index is being served
+     */
+    public CompletableFuture<Void> loadIndex() {
+        ClientTypeaheadIndex loaded = new ClientTypeaheadIndex();
+        this.loading = loaded;
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(this.loadParallelism);
+        CompletableFuture<?>[] ranges = IntStream.rangeClosed(0, 9)
+                .mapToObj(digit -> CompletableFuture.runAsync(() -> loadRange(loaded, digit), executor))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(ranges).whenComplete((ignored, error) -> {
+            executor.shutdown();
+            if (error == null) {
+                loaded.finishLoading();
+                this.index = loaded;
+                LOGGER.info("Typeahead index loaded with {} clients in {} ms", loaded.size(),
+                        (System.nanoTime() - start) / 1_000_000);
+            } else {
+                LOGGER.error("Typeahead index could not be loaded, suggestions keep querying the database", error);
+            }
+            if (this.loading == loaded) {
+                this.loading = null;
+            }
+        });
+    }
+
+    /**
+     * Applies a committed change to the served index and to the one being loaded.
+     * Changes made outside a transaction, such as the ones of the reactive API, are applied right away.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClientChanged(ClientChangedEvent event) {
+        // The index being loaded is read first: it is only cleared after becoming the served one
+        for (ClientTypeaheadIndex target : new ClientTypeaheadIndex[]{this.loading, this.index}) {
+            if (target == null) {
+                continue;
+            }
+            ClientResponsePayload client = event.client();
+            if (client == null) {
+                target.remove(event.previousCpf());
+            } else {
+                target.put(event.previousCpf(), client.cpf(), client.name(),
+                        client.phones().stream().map(PhoneResponsePayload::number).toList());
+            }
+        }
+    }
+
+    /**
+     * Reads the clients whose CPF starts with the given digit; CPFs are always stored as 11 digits.
+     */
+    private void loadRange(ClientTypeaheadIndex target, int digit) {
+        String from = digit + "0000000000";
+        String to = digit + "9999999999";
+        this.loadTransaction.executeWithoutResult(status -> {
+            try (Stream<ClientTypeaheadRow> rows = this.clientRepository.streamTypeaheadRows(from, to)) {
+                Iterator<ClientTypeaheadRow> iterator = rows.iterator();
+                String cpf = null;
+                String name = null;
+                List<String> numbers = new ArrayList<>();
+                while (iterator.hasNext()) {
+                    ClientTypeaheadRow row = iterator.next();
+                    if (!row.getCpf().equals(cpf)) {
+                        if (cpf != null) {
+                            target.load(cpf, name, numbers);
+                        }
+                        cpf = row.getCpf();
+                        name = row.getName();
+                        numbers = new ArrayList<>();
+                    }
+                    if (row.getNumber() != null) {
+                        numbers.add(row.getNumber());
+                    }
+                }
+                if (cpf != null) {
+                    target.load(cpf, name, numbers);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.totvs.customermanagement.service;
+
+import br.com.totvs.customermanagement.payload.response.ClientChangePayload;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends every published client change to a newline-delimited JSON file.
+ */
+public class FileClientChangeSink implements ClientChangeSink {
+
+    private final Path file;
+    private final ObjectWriter writer;
+
+    public FileClientChangeSink(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public synchronized void publish(List<ClientChangePayload> changes) {
+        try (OutputStream output = Files.newOutputStream(this.file, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND)) {
+            for (ClientChangePayload change : changes) {
+                this.writer.writeValue(output, change);
+                output.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append client changes to " + this.file, e);
+        }
+    }
+}
@@ -0,0 +1,436 @@
+package br.com.totvs.customermanagement.service;
+
+import br.com.totvs.customermanagement.config.CacheConfig;
+import br.com.totvs.customermanagement.exception.ClientNotFoundException;
+import br.com.totvs.customermanagement.exception.CpfAlreadyExistsException;
+import br.com.totvs.customermanagement.exception.CpfNotFoundException;
+import br.com.totvs.customermanagement.exception.InvalidCpfException;
+import br.com.totvs.customermanagement.exception.InvalidCursorException;
+import br.com.totvs.customermanagement.exception.NameAlreadyExistsException;
+import br.com.totvs.customermanagement.exception.PhoneNumberAlreadyExistsException;
+import br.com.totvs.customermanagement.exception.TotvsException;
+import br.com.totvs.customermanagement.model.Client;
+import br.com.totvs.customermanagement.model.reactive.AddressRow;
+import br.com.totvs.customermanagement.model.reactive.ClientRow;
+import br.com.totvs.customermanagement.model.reactive.PhoneRow;
+import br.com.totvs.customermanagement.payload.request.AddressRequestPayload;
+import br.com.totvs.customermanagement.payload.request.ClientPatchRequestPayload;
+import br.com.totvs.customermanagement.payload.request.ClientRequestPayload;
+import br.com.totvs.customermanagement.payload.request.PhoneRequestPayload;
+import br.com.totvs.customermanagement.payload.response.AddressResponsePayload;
+import br.com.totvs.customermanagement.payload.response.ClientPageResponsePayload;
+import br.com.totvs.customermanagement.payload.response.ClientResponsePayload;
+import br.com.totvs.customermanagement.payload.response.PhoneResponsePayload;
+import br.com.totvs.customermanagement.repository.reactive.ReactiveAddressRepository;
+import br.com.totvs.customermanagement.repository.reactive.ReactiveClientRepository;
+import br.com.totvs.customermanagement.repository.reactive.ReactivePhoneRepository;
+import br.com.totvs.customermanagement.util.NumberUtil;
+import br.com.totvs.customermanagement.util.UuidUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Non-blocking counterpart of {@link ClientService}, backed by R2DBC repositories over the same schema.
+ * <p>
+ * Requests are checked with the same {@link ClientRules} as the blocking service and answered with the same
+ * payloads. Writes run in R2DBC transactions and evict the changed clients from the clients cache after they commit,
+ * so the blocking API never serves a client changed through this one, and then publish a {@link ClientChangedEvent}
+ * for every changed client. Updates and deletes bypass Hibernate, so they also evict the changed client from its
+ * second-level cache, when enabled: the entity and its collections by id and the natural id by CPF. Reads go straight
+ * to the database.
+ * </p>
+ */
+@Service
+public class ReactiveClientService {
+
+    private final ReactiveClientRepository clientRepository;
+    private final ReactivePhoneRepository phoneRepository;
+    private final ReactiveAddressRepository addressRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final Cache clientsCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClientChangeOutbox clientChangeOutbox;
+    private final SessionFactoryImplementor sessionFactory;
+    private final EntityPersister clientPersister;
+
+    public ReactiveClientService(ReactiveClientRepository clientRepository, ReactivePhoneRepository phoneRepository,
+                                 ReactiveAddressRepository addressRepository,
+                                 TransactionalOperator transactionalOperator, CacheManager cacheManager,
+                                 ApplicationEventPublisher eventPublisher, ClientChangeOutbox clientChangeOutbox,
+                                 EntityManagerFactory entityManagerFactory) {
+        this.clientRepository = clientRepository;
+        this.phoneRepository = phoneRepository;
+        this.addressRepository = addressRepository;
+        this.transactionalOperator = transactionalOperator;
+        this.clientsCache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.CLIENTS_CACHE));
+        this.eventPublisher = eventPublisher;
+        this.clientChangeOutbox = clientChangeOutbox;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.clientPersister = this.sessionFactory.getMappingMetamodel().getEntityDescriptor(Client.class);
+    }
+
+    /**
+     * Creates a new client with associated phones and addresses.
+     *
+     * @param request the client data to be created, with at least one phone
+     * @return the created client data as a response payload
+     * @throws InvalidCpfException if the CPF is invalid
+     * @throws CpfAlreadyExistsException if the CPF already exists in the system
+     * @throws NameAlreadyExistsException if the client name already exists
+     * @throws PhoneNumberAlreadyExistsException if any phone number already exists
+     */
+    public Mono<ClientResponsePayload> createClient(ClientRequestPayload request) {
+        UUID id = UuidUtil.timeOrdered();
+        ClientResponsePayload created = toResponse(request.name(), request.cpf(), request.phones(), request.addresses());
+        return Mono.fromRunnable(() -> ClientRules.requireValidCpf(request.cpf()))
+                .then(validateUniqueness(null, request.name(), request.cpf(), request.phones()))
+                .then(Mono.defer(() -> this.clientRepository.insert(id, request.name(), NumberUtil.parseCpf(request.cpf()))))
+                .thenMany(Flux.fromIterable(request.phones()).concatMap(phone -> insertPhone(id, phone)))
+                .thenMany(Flux.fromIterable(request.addresses()).concatMap(address -> insertAddress(id, address)))
+                .then(recordChange(null, created))
+                .as(this.transactionalOperator::transactional)
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> translate(e, request.name(), request.cpf(), request.phones()))
+                .thenReturn(created)
+                .doOnNext(client -> this.eventPublisher.publishEvent(ClientChangedEvent.created(client)));
+    }
+
+    /**
+     * Retrieves a client by their CPF, including associated phone numbers and addresses.
+     *
+     * @param cpf the CPF (Cadastro de Pessoa Física) identifier of the client.
+     * @return the client, or a {@link ClientNotFoundException} error if no client is found with the given CPF.
+     */
+    public Mono<ClientResponsePayload> getClientByCpf(String cpf) {
+        return this.clientRepository.findByCpf(NumberUtil.parseCpf(cpf))
+                .switchIfEmpty(Mono.error(() -> new ClientNotFoundException(cpf)))
+                .flatMap(client -> toResponses(List.of(client)))
+                .map(clients -> clients.get(0));
+    }
+
+    /**
+     * Retrieves a page of clients ordered by CPF, starting right after the given cursor.
+     *
+     * @param cursor the CPF of the last client of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of clients in the page, clamped between 1 and {@link ClientService#MAX_PAGE_SIZE}
+     * @return the clients and the cursor of the next page, which is {@code null} when there are no more clients,
+     *         or an {@link InvalidCursorException} error if the cursor is not a CPF written as 11 plain digits
+     */
+    public Mono<ClientPageResponsePayload> getClientsPage(String cursor, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), ClientService.MAX_PAGE_SIZE);
+        return Mono.fromRunnable(() -> ClientRules.requireValidCursor(cursor))
+                .thenMany(Flux.defer(() -> this.clientRepository.findByCpfGreaterThanOrderByCpfAsc(
+                        NumberUtil.parseCpf(cursor), Limit.of(pageSize + 1))))
+                .collectList()
+                .flatMap(clients -> {
+                    boolean hasNext = clients.size() > pageSize;
+                    List<ClientRow> page = hasNext ? clients.subList(0, pageSize) : clients;
+                    return toResponses(page).map(responses -> new ClientPageResponsePayload(responses,
+                            hasNext ? NumberUtil.formatCpf(page.get(page.size() - 1).cpf()) : null));
+                });
+    }
+
+    /**
+     * Streams all clients ordered by CPF.
+     * <p>
+     * Clients are read in keyset pages of {@code pageSize} and the next page is only queried once the subscriber
+     * has requested the clients of the current one, so a slow consumer holds at most two pages in memory and
+     * no database connection between pages.
+     * </p>
+     *
+     * @param pageSize the number of clients read per query, clamped between 1 and {@link ClientService#MAX_PAGE_SIZE}
+     * @return all clients, with their phones and addresses
+     */
+    public Flux<ClientResponsePayload> streamClients(int pageSize) {
+        return getClientsPage(null, pageSize)
+                .expand(page -> page.next() == null ? Mono.empty() : getClientsPage(page.next(), pageSize))
+                .concatMapIterable(ClientPageResponsePayload::clients, 1);
+    }
+
+    /**
+     * Updates an existing client identified by CPF with new data.
+     * Phones and addresses are merged into the stored ones, so unchanged rows are neither deleted nor re-inserted.
+     *
+     * @param cpf the CPF of the client to update
+     * @param request the new client data, with at least one phone
+     * @return the updated client data as a response payload
+     * @throws CpfNotFoundException if the client with the given CPF does not exist
+     * @throws NameAlreadyExistsException if the new name already exists for another client
+     * @throws CpfAlreadyExistsException if the new CPF already exists for another client
+     * @throws PhoneNumberAlreadyExistsException if any phone number is already in use by another client
+     */
+    public Mono<ClientResponsePayload> updateClient(String cpf, ClientRequestPayload request) {
+        return modifyClient(cpf, request.name(), request.cpf(), request.phones(), request.addresses());
+    }
+
+    /**
+     * Partially updates an existing client identified by CPF.
+     * Only the fields present in the request are changed; absent phones or addresses are left untouched.
+     *
+     * @param cpf the CPF of the client to update
+     * @param request the fields to change
+     * @return the updated client data as a response payload
+     * @throws CpfNotFoundException if the client with the given CPF does not exist
+     * @throws NameAlreadyExistsException if the new name already exists for another client
+     * @throws CpfAlreadyExistsException if the new CPF already exists for another client
+     * @throws PhoneNumberAlreadyExistsException if any phone number is already in use by another client
+     */
+    public Mono<ClientResponsePayload> patchClient(String cpf, ClientPatchRequestPayload request) {
+        return modifyClient(cpf, request.name(), request.cpf(), request.phones(), request.addresses());
+    }
+
+    /**
+     * Deletes a client identified by CPF along with their phones and addresses.
+     * The client is read for its id, which keys its second-level cache entries, then deleted with a single statement
+     * and the database cascades the delete to the other rows; the change is written to the outbox in the same
+     * transaction.
+     *
+     * @param cpf the CPF of the client to delete
+     * @return completes once deleted, or a {@link CpfNotFoundException} error if no client with the given CPF exists
+     */
+    public Mono<Void> deleteClient(String cpf) {
+        long storedCpf = NumberUtil.parseCpf(cpf);
+        return this.clientRepository.findByCpf(storedCpf)
+                .flatMap(client -> this.clientRepository.deleteByCpf(storedCpf)
+                        .filter(deleted -> deleted > 0)
+                        .flatMap(deleted -> recordChange(cpf, null).thenReturn(client)))
+                .switchIfEmpty(Mono.error(() -> new CpfNotFoundException(cpf)))
+                .as(this.transactionalOperator::transactional)
+                .doOnSuccess(client -> {
+                    this.clientsCache.evict(cpf);
+                    evictEntity(client.id(), cpf);
+                    this.eventPublisher.publishEvent(ClientChangedEvent.deleted(cpf));
+                })
+                .then();
+    }
+
+    /**
+     * Applies an update or a patch; {@code null} values keep the stored ones.
+     */
+    private Mono<ClientResponsePayload> modifyClient(String cpf, String name, String newCpf,
+                                                     List<PhoneRequestPayload> phones,
+                                                     List<AddressRequestPayload> addresses) {
+        return this.clientRepository.findByCpf(NumberUtil.parseCpf(cpf))
+                .switchIfEmpty(Mono.error(() -> new CpfNotFoundException(cpf)))
+                .flatMap(client -> {
+                    String finalName = name != null ? name : client.name();
+                    String finalCpf = newCpf != null ? newCpf : NumberUtil.formatCpf(client.cpf());
+                    List<PhoneRequestPayload> checkedPhones = phones != null ? phones : List.of();
+                    return Mono.fromRunnable(() -> ClientRules.requireStorableCpf(finalCpf))
+                            .then(validateUniqueness(cpf, finalName, finalCpf, checkedPhones))
+                            .then(Mono.defer(() -> this.clientRepository.update(client.id(), finalName,
+                                    NumberUtil.parseCpf(finalCpf))))
+                            .then(phones != null ? mergePhones(client.id(), phones) : Mono.empty())
+                            .then(addresses != null ? mergeAddresses(client.id(), addresses) : Mono.empty())
+                            .then(Mono.defer(() -> getClient(new ClientRow(client.id(), finalName,
+                                    NumberUtil.parseCpf(finalCpf)))))
+                            .flatMap(updated -> recordChange(cpf, updated).thenReturn(Map.entry(client.id(), updated)))
+                            .onErrorMap(DataIntegrityViolationException.class,
+                                    e -> translate(e, finalName, finalCpf, checkedPhones));
+                })
+                .as(this.transactionalOperator::transactional)
+                .doOnSuccess(updated -> {
+                    ClientResponsePayload client = updated.getValue();
+                    this.clientsCache.evict(cpf);
+                    this.clientsCache.evict(client.cpf());
+                    evictEntity(updated.getKey(), cpf, client.cpf());
+                    this.eventPublisher.publishEvent(new ClientChangedEvent(cpf, client));
+                })
+                .map(Map.Entry::getValue);
+    }
+
+    /**
+     * Evicts a client changed behind the back of Hibernate from its second-level cache, when enabled: the entity,
+     * its phones and addresses collections and the natural ids it may be cached under. Other clients keep theirs.
+     *
+     * @param id the id of the client
+     * @param cpfs the CPFs of the client before and after the change
+     */
+    private void evictEntity(UUID id, String... cpfs) {
+        org.hibernate.Cache cache = this.sessionFactory.getCache();
+        cache.evictEntityData(Client.class, id);
+        cache.evictCollectionData(Client.PHONES_ROLE, id);
+        cache.evictCollectionData(Client.ADDRESSES_ROLE, id);
+
+        NaturalIdDataAccess naturalIds = this.clientPersister.getNaturalIdCacheAccessStrategy();
+        if (naturalIds == null) {
+            return;
+        }
+        // Natural id keys are built with a session, which is only used to read the CPF as the cache stores it
+        try (StatelessSession session = this.sessionFactory.openStatelessSession()) {
+            for (String cpf : cpfs) {
+                naturalIds.evict(naturalIds.generateCacheKey(cpf, this.clientPersister,
+                        (SharedSessionContractImplementor) session));
+            }
+        }
+    }
+
+    /**
+     * Writes a change to the outbox read by {@link ClientChangeService}; callers run it in the transaction of the
+     * change, the same guarantee {@link ClientChangeOutbox} gives the blocking services.
+     *
+     * @param previousCpf the CPF before the change, or {@code null} when the client was created
+     * @param client the client after the change, or {@code null} when it was deleted
+     */
+    private Mono<Void> recordChange(String previousCpf, ClientResponsePayload client) {
+        return Mono.defer(() -> this.clientRepository.insertChange(previousCpf, this.clientChangeOutbox.toJson(client)))
+                .then();
+    }
+
+    /**
+     * Checks the CPF, name and phone numbers of a request against all other clients with a single query,
+     * see {@link ClientRules#conflictOf(String, List)}.
+     *
+     * @param ownerCpf the CPF of the client being updated, whose own values are not conflicts, or {@code null} on creation
+     * @param name client name
+     * @param cpf client CPF
+     * @param phones list of phones associated with client
+     * @return completes when no value is taken, or fails with the conflict
+     */
+    private Mono<Void> validateUniqueness(String ownerCpf, String name, String cpf, List<PhoneRequestPayload> phones) {
+        List<String> numbers = phones.stream().map(PhoneRequestPayload::number).toList();
+        // An empty IN list is not valid SQL; phone numbers are never blank, so this matches no phone
+        Collection<String> checkedNumbers = numbers.isEmpty() ? List.of("") : numbers;
+        return this.clientRepository.findConflicts(NumberUtil.parseCpf(cpf), name, checkedNumbers)
+                .collectList()
+                .flatMap(rows -> ClientRules.conflictOf(ownerCpf, rows)
+                        .map(Mono::<Void>error)
+                        .orElseGet(Mono::empty));
+    }
+
+    private Mono<Void> mergePhones(UUID clientId, List<PhoneRequestPayload> requested) {
+        return merge(this.phoneRepository.findByClientId(clientId), requested,
+                (phone, request) -> phone.number().equals(request.number()),
+                PhoneRow::id,
+                request -> insertPhone(clientId, request),
+                ids -> this.phoneRepository.deleteByClientIdAndIdIn(clientId, ids).then());
+    }
+
+    private Mono<Void> mergeAddresses(UUID clientId, List<AddressRequestPayload> requested) {
+        return merge(this.addressRepository.findByClientId(clientId), requested,
+                (address, request) -> Objects.equals(address.street(), request.street())
+                        && Objects.equals(address.complement(), request.complement())
+                        && Objects.equals(address.city(), request.city())
+                        && Objects.equals(address.state(), request.state())
+                        && Objects.equals(address.zipCode(), request.zipCode()),
+                AddressRow::id,
+                request -> insertAddress(clientId, request),
+                ids -> this.addressRepository.deleteByClientIdAndIdIn(clientId, ids).then());
+    }
+
+    /**
+     * Makes stored rows match the requested items: rows equal to a requested item are kept, the other rows
+     * are deleted and the requested items without a row are inserted.
+     *
+     * @param current the stored rows
+     * @param requested the requested items
+     * @param matches whether a stored row already holds a requested item
+     * @param id the id of a stored row
+     * @param insert inserts a requested item
+     * @param delete deletes rows by id
+     */
+    private static <E, R> Mono<Void> merge(Flux<E> current, List<R> requested, BiPredicate<E, R> matches,
+                                           Function<E, UUID> id, Function<R, Mono<Long>> insert,
+                                           Function<List<UUID>, Mono<Void>> delete) {
+        return current.collectList().flatMap(rows -> {
+            List<E> unmatched = new ArrayList<>(rows);
+            List<R> missing = new ArrayList<>();
+            for (R request : requested) {
+                Optional<E> match = unmatched.stream().filter(row -> matches.test(row, request)).findFirst();
+                if (match.isPresent()) {
+                    unmatched.remove(match.get());
+                } else {
+                    missing.add(request);
+                }
+            }
+
+            List<UUID> removed = unmatched.stream().map(id).toList();
+            return (removed.isEmpty() ? Mono.<Void>empty() : delete.apply(removed))
+                    .thenMany(Flux.fromIterable(missing).concatMap(insert))
+                    .then();
+        });
+    }
+
+    private Mono<Long> insertPhone(UUID clientId, PhoneRequestPayload phone) {
+        return this.phoneRepository.insert(UuidUtil.timeOrdered(), phone.number(), clientId);
+    }
+
+    private Mono<Long> insertAddress(UUID clientId, AddressRequestPayload address) {
+        return this.addressRepository.insert(UuidUtil.timeOrdered(), address.street(), address.complement(),
+                address.city(), address.state(), address.zipCode(), clientId);
+    }
+
+    private Mono<ClientResponsePayload> getClient(ClientRow client) {
+        return toResponses(List.of(client)).map(clients -> clients.get(0));
+    }
+
+    /**
+     * Maps clients to response payloads, loading the phones and addresses of all of them
+     * with one query each instead of two queries per client.
+     *
+     * @param clients the clients to map
+     * @return the response payloads, in the same order as the given clients
+     */
+    private Mono<List<ClientResponsePayload>> toResponses(List<ClientRow> clients) {
+        if (clients.isEmpty()) {
+            return Mono.just(List.of());
+        }
+
+        List<UUID> ids = clients.stream().map(ClientRow::id).toList();
+        return this.phoneRepository.findByClientIdIn(ids).collectMultimap(PhoneRow::clientId)
+                .zipWith(this.addressRepository.findByClientIdIn(ids).collectMultimap(AddressRow::clientId))
+                .map(rows -> {
+                    Map<UUID, Collection<PhoneRow>> phonesByClient = rows.getT1();
+                    Map<UUID, Collection<AddressRow>> addressesByClient = rows.getT2();
+                    return clients.stream().map(client -> new ClientResponsePayload(client.name(),
+                            NumberUtil.formatCpf(client.cpf()),
+                            phonesByClient.getOrDefault(client.id(), List.of()).stream()
+                                    .map(phone -> new PhoneResponsePayload(phone.number())).toList(),
+                            addressesByClient.getOrDefault(client.id(), List.of()).stream()
+                                    .map(address -> new AddressResponsePayload(address.street(), address.complement(),
+                                            address.city(), address.state(), address.zipCode())).toList()
+                    )).toList();
+                });
+    }
+
+    private static ClientResponsePayload toResponse(String name, String cpf, List<PhoneRequestPayload> phones,
+                                                    List<AddressRequestPayload> addresses) {
+        return new ClientResponsePayload(name, cpf,
+                phones.stream().map(phone -> new PhoneResponsePayload(phone.number())).toList(),
+                addresses.stream().map(address -> new AddressResponsePayload(address.street(),
+                        address.complement(), address.city(), address.state(), address.zipCode())).toList());
+    }
+
+    /**
+     * Maps a unique constraint violated by a concurrent writer to the matching {@link TotvsException}.
+     */
+    private static Throwable translate(DataIntegrityViolationException e, String name, String cpf,
+                                       List<PhoneRequestPayload> phones) {
+        Optional<TotvsException> translated = ClientRules.uniqueViolationOf(
+                e.getMostSpecificCause().getMessage(), ClientRules.messagesOf(e), name, cpf, phones);
+        return translated.isPresent() ? translated.get() : e;
+    }
+}
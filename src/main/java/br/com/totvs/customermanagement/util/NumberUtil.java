@@ -1,54 +1,192 @@
 package br.com.totvs.customermanagement.util;
 
+import java.util.function.IntUnaryOperator;
+
 public class NumberUtil {
 
+    private static final int CPF_LENGTH = 11;
+    private static final long MAX_CPF = 99_999_999_999L;
+
     /**
      * Validates a Brazilian CPF (Cadastro de Pessoas Físicas) number.
      * <p>
-     * This method removes any non-numeric characters and then checks if the CPF:
+     * This method ignores any non-numeric characters and then checks if the CPF:
      * <ul>
      *   <li>Has exactly 11 digits</li>
      *   <li>Is not composed of the same digit repeated (e.g., 00000000000)</li>
      *   <li>Has valid verifying digits according to the official algorithm</li>
      * </ul>
+     * The digits are checked in a single pass, without regular expressions or intermediate strings.
      * </p>
      *
-     * @param cpf the CPF number as a {@link String}, with or without formatting (e.g., "123.456.789-09" or "12345678909")
+     * @param cpf the CPF number, with or without formatting (e.g., "123.456.789-09" or "12345678909")
      * @return {@code true} if the CPF is valid; {@code false} otherwise
      */
-    public static boolean isValidCpf(String cpf) {
+    public static boolean isValidCpf(CharSequence cpf) {
         if (cpf == null) {
             return false;
         }
 
-        cpf = cpf.replaceAll("\\D", "");
-        if (cpf.length() != 11 || cpf.matches("(\\d)\\1{10}")) {
+        return isValidCpf(cpf::charAt, 0, cpf.length());
+    }
+
+    /**
+     * Validates a CPF encoded as ASCII bytes, following the same rules as {@link #isValidCpf(CharSequence)}.
+     *
+     * @param cpf the buffer holding the CPF
+     * @param offset the index of the first byte of the CPF
+     * @param length the number of bytes of the CPF
+     * @return {@code true} if the CPF is valid; {@code false} otherwise
+     */
+    public static boolean isValidAsciiCpf(byte[] cpf, int offset, int length) {
+        if (cpf == null) {
             return false;
         }
 
-        int sum = 0;
-        for (int i = 0; i < 9; i++) {
-            sum += (cpf.charAt(i) - '0') * (10 - i);
+        return isValidCpf(i -> cpf[i], offset, offset + length);
+    }
+
+    /**
+     * Validates a CPF encoded as ASCII bytes.
+     *
+     * @param cpf the CPF bytes
+     * @return {@code true} if the CPF is valid; {@code false} otherwise
+     * @see #isValidAsciiCpf(byte[], int, int)
+     */
+    public static boolean isValidAsciiCpf(byte[] cpf) {
+        return cpf != null && isValidAsciiCpf(cpf, 0, cpf.length);
+    }
+
+    /**
+     * Validates many CPFs at once, writing each result to the matching index of {@code results}.
+     *
+     * @param cpfs the CPFs to validate
+     * @param results receives {@code true} for each valid CPF; must be at least as long as {@code cpfs}
+     * @return the number of valid CPFs
+     * @throws IllegalArgumentException if {@code results} is shorter than {@code cpfs}
+     */
+    public static int validateCpfs(CharSequence[] cpfs, boolean[] results) {
+        if (results.length < cpfs.length) {
+            throw new IllegalArgumentException("results must hold at least " + cpfs.length + " entries");
         }
-        int firstVerifierDigit = 11 - (sum % 11);
-        if (firstVerifierDigit > 9) {
-            firstVerifierDigit = 0;
+
+        int valid = 0;
+        for (int i = 0; i < cpfs.length; i++) {
+            results[i] = isValidCpf(cpfs[i]);
+            if (results[i]) {
+                valid++;
+            }
         }
+        return valid;
+    }
 
-        if ((cpf.charAt(9) - '0') != firstVerifierDigit) {
+    /**
+     * Encodes a CPF written as 11 plain digits, the only form it is stored in, as a number.
+     * Leading zeros are kept by {@link #formatCpf(long)}, so both methods are exact inverses.
+     *
+     * @param cpf the CPF, e.g. "12345678909"
+     * @return the CPF as a number between 0 and 99999999999, or {@code -1} if it is not made of exactly 11 ASCII
+     *         digits; the verifying digits are not checked
+     */
+    public static long parseCpf(CharSequence cpf) {
+        if (cpf == null || cpf.length() != CPF_LENGTH) {
+            return -1;
+        }
+
+        long value = 0;
+        for (int i = 0; i < CPF_LENGTH; i++) {
+            int digit = cpf.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Writes a CPF encoded by {@link #parseCpf(CharSequence)} back as 11 digits.
+     *
+     * @param cpf the CPF as a number between 0 and 99999999999
+     * @return the CPF with its leading zeros, e.g. "00000000191"
+     * @throws IllegalArgumentException if the number cannot be a CPF
+     */
+    public static String formatCpf(long cpf) {
+        if (cpf < 0 || cpf > MAX_CPF) {
+            throw new IllegalArgumentException("Not a CPF: " + cpf);
+        }
+
+        char[] digits = new char[CPF_LENGTH];
+        for (int i = CPF_LENGTH - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + cpf % 10);
+            cpf /= 10;
+        }
+        return new String(digits);
+    }
+
+    /**
+     * Checks the digits found between {@code from} and {@code to} in a single pass, skipping everything else.
+     *
+     * @param charAt reads the character at an index
+     */
+    private static boolean isValidCpf(IntUnaryOperator charAt, int from, int to) {
+        int digits = 0;
+        int firstDigit = 0;
+        boolean sameDigits = true;
+        int firstSum = 0;
+        int secondSum = 0;
+        int firstVerifier = 0;
+        int secondVerifier = 0;
+
+        for (int i = from; i < to; i++) {
+            int digit = charAt.applyAsInt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                continue;
+            }
+            if (digits == CPF_LENGTH) {
+                return false;
+            }
+
+            if (digits == 0) {
+                firstDigit = digit;
+            } else {
+                sameDigits &= digit == firstDigit;
+            }
+            if (digits < 9) {
+                firstSum += digit * (10 - digits);
+            } else if (digits == 9) {
+                firstVerifier = digit;
+            } else {
+                secondVerifier = digit;
+            }
+            if (digits < 10) {
+                secondSum += digit * (11 - digits);
+            }
+            digits++;
+        }
+
+        return hasValidVerifiers(digits, sameDigits, firstSum, secondSum, firstVerifier, secondVerifier);
+    }
+
+    private static boolean hasValidVerifiers(int digits, boolean sameDigits, int firstSum, int secondSum,
+                                             int firstVerifier, int secondVerifier) {
+        if (digits != CPF_LENGTH || sameDigits) {
             return false;
         }
 
-        sum = 0;
-        for (int i = 0; i < 10; i++) {
-            sum += (cpf.charAt(i) - '0') * (11 - i);
+        int expectedFirstVerifier = 11 - (firstSum % 11);
+        if (expectedFirstVerifier > 9) {
+            expectedFirstVerifier = 0;
         }
-        int secondVerifierDigit = 11 - (sum % 11);
-        if (secondVerifierDigit > 9) {
-            secondVerifierDigit = 0;
+        if (firstVerifier != expectedFirstVerifier) {
+            return false;
         }
 
-        return (cpf.charAt(10) - '0') == secondVerifierDigit;
+        int expectedSecondVerifier = 11 - (secondSum % 11);
+        if (expectedSecondVerifier > 9) {
+            expectedSecondVerifier = 0;
+        }
+        return secondVerifier == expectedSecondVerifier;
     }
 
 }
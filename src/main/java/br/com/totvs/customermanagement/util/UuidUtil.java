@@ -0,0 +1,54 @@
+package br.com.totvs.customermanagement.util;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class UuidUtil {
+
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final long VARIANT_RFC_9562 = 0x8000_0000_0000_0000L;
+    private static final int NANOS_PER_MILLI = 1_000_000;
+
+    /**
+     * Creates a version 7 UUID, as defined by RFC 9562.
+     * <p>
+     * The first 48 bits hold the Unix time in milliseconds and the next 12 bits the fraction of the current
+     * millisecond, so UUIDs created later sort after earlier ones and new keys land at the right edge of a B-tree
+     * index instead of a random page. The remaining 62 bits come from {@link ThreadLocalRandom}: no state is
+     * shared between threads, so concurrent callers never wait on each other. UUIDs created by different threads
+     * within the same fraction of a millisecond are ordered randomly among themselves.
+     * </p>
+     * The creation time can be read back from the UUID, so it should not be used where that time is a secret.
+     *
+     * @return a new time-ordered UUID
+     */
+    public static UUID timeOrdered() {
+        return timeOrdered(Instant.now());
+    }
+
+    /**
+     * @param instant the creation time encoded in the UUID
+     * @return a new version 7 UUID for the given time
+     * @see #timeOrdered()
+     */
+    static UUID timeOrdered(Instant instant) {
+        long subMillis = (long) (instant.getNano() % NANOS_PER_MILLI) * 4096 / NANOS_PER_MILLI;
+        long mostSignificantBits = instant.toEpochMilli() << 16 | VERSION_7 | subMillis;
+        long leastSignificantBits = ThreadLocalRandom.current().nextLong() & VARIANT_MASK | VARIANT_RFC_9562;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * @param uuid a version 7 UUID
+     * @return the Unix time in milliseconds encoded in the UUID
+     * @throws IllegalArgumentException if the UUID is not a version 7 UUID
+     */
+    public static long timestampMillis(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
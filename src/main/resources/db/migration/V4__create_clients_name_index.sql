@@ -0,0 +1 @@
+CREATE INDEX idx_clients_name ON clients (name);
\ No newline at end of file
@@ -0,0 +1,11 @@
+-- Fails before the constraint when client names are shared, naming one of them. Casting the message to a number is
+-- the only way to raise an error that both H2 and PostgreSQL run.
+SELECT CAST('Cannot add uk_clients_name, names used by more than one client: ' || COUNT(*) || ', such as ''' || MIN(name)
+                || '''. Rename or remove the clients listed by SELECT name FROM clients GROUP BY name HAVING COUNT(*) > 1'
+            AS INTEGER)
+FROM (SELECT name FROM clients GROUP BY name HAVING COUNT(*) > 1) duplicated_names
+HAVING COUNT(*) > 0;
+
+ALTER TABLE clients ADD CONSTRAINT uk_clients_name UNIQUE (name);
+
+DROP INDEX idx_clients_name;
@@ -0,0 +1,2 @@
+CREATE INDEX idx_phones_client_id_number ON phones (client_id, number);
+CREATE INDEX idx_addresses_client_id ON addresses (client_id);
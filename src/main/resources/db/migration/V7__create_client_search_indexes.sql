@@ -0,0 +1 @@
+CREATE INDEX idx_addresses_zip_code ON addresses (zip_code);
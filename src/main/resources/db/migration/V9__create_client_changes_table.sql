@@ -0,0 +1,15 @@
+CREATE TABLE client_changes (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    feed_position BIGINT,
+    previous_cpf VARCHAR(11),
+    payload TEXT,
+    changed_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT uk_client_changes_feed_position UNIQUE (feed_position)
+);
+
+CREATE TABLE client_change_cursor (
+    id INT PRIMARY KEY,
+    last_position BIGINT NOT NULL
+);
+
+INSERT INTO client_change_cursor (id, last_position) VALUES (1, 0);
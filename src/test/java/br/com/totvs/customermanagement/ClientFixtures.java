@@ -0,0 +1,61 @@
+package br.com.totvs.customermanagement;
+
+import br.com.totvs.customermanagement.payload.request.AddressRequestPayload;
+import br.com.totvs.customermanagement.payload.request.ClientRequestPayload;
+import br.com.totvs.customermanagement.payload.request.PhoneRequestPayload;
+
+import java.util.List;
+
+/**
+ * Request payloads and valid CPFs shared by the tests.
+ */
+public final class ClientFixtures {
+
+    private ClientFixtures() {
+    }
+
+    /**
+     * @param base the first nine digits, left padded with zeros
+     * @return the valid CPF made of the given digits and their two check digits
+     */
+    public static String cpf(int base) {
+        StringBuilder cpf = new StringBuilder(String.format("%09d", base));
+        for (int weight = 10; weight <= 11; weight++) {
+            int sum = 0;
+            for (int i = 0; i < cpf.length(); i++) {
+                sum += (cpf.charAt(i) - '0') * (weight - i);
+            }
+            int verifier = 11 - (sum % 11);
+            cpf.append(verifier > 9 ? 0 : verifier);
+        }
+        return cpf.toString();
+    }
+
+    /**
+     * @return an address in Goiânia on the given street
+     */
+    public static AddressRequestPayload address(String street) {
+        return new AddressRequestPayload(street, null, "Goiânia", "Goiás", "74860405");
+    }
+
+    /**
+     * @return a client with one phone and one address on Main Street
+     */
+    public static ClientRequestPayload request(String name, String cpf, String phone) {
+        return new ClientRequestPayload(name, cpf, List.of(new PhoneRequestPayload(phone)), List.of(address("Main Street")));
+    }
+
+    /**
+     * @return the name of the numbered client {@code index}
+     */
+    public static String name(int index) {
+        return String.format("Client %03d", index);
+    }
+
+    /**
+     * @return the numbered client {@code index}, whose CPF is {@code cpf(index + 1)}, with the given phone
+     */
+    public static ClientRequestPayload request(int index, String phone) {
+        return request(name(index), cpf(index + 1), phone);
+    }
+}
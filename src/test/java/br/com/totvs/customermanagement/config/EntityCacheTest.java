@@ -0,0 +1,172 @@
+package br.com.totvs.customermanagement.config;
+
+import br.com.totvs.customermanagement.model.Address;
+import br.com.totvs.customermanagement.model.Client;
+import br.com.totvs.customermanagement.model.Phone;
+import br.com.totvs.customermanagement.repository.ClientRepository;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.cache.Cache;
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs a second session factory over the same database as a second application instance.
+ */
+@ActiveProfiles("test")
+@DataJpaTest(properties = {"totvs.cache.entities.enabled=true", "totvs.cache.entities.maximum-size=1000"})
+@Import(EntityCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EntityCacheTest {
+
+    private static final String CPF = "12345678909";
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CacheInvalidationBus bus;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private EntityManagerFactory otherNode;
+
+    @BeforeEach
+    void setup() {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(this.dataSource);
+        factory.setPackagesToScan(Client.class.getPackageName());
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName(),
+                AvailableSettings.USE_SECOND_LEVEL_CACHE, true,
+                AvailableSettings.CACHE_REGION_FACTORY, new InvalidatingRegionFactory(this.bus, 1000, Duration.ofMinutes(10)),
+                ConfigSettings.MISSING_CACHE_STRATEGY, "create",
+                AvailableSettings.GENERATE_STATISTICS, true,
+                AvailableSettings.HBM2DDL_AUTO, "none"));
+        factory.afterPropertiesSet();
+        this.otherNode = factory.getObject();
+
+        Client client = Client.builder().name("Matheus Pires").cpf(CPF).build();
+        client.setPhones(List.of(Phone.builder().number("11988887777").client(client).build()));
+        client.setAddresses(List.of(Address.builder().street("Main Street").city("Goiânia").state("Goiás")
+                .zipCode("74860405").client(client).build()));
+        this.clientRepository.save(client);
+    }
+
+    @AfterEach
+    void cleanup() {
+        this.otherNode.close();
+        this.clientRepository.deleteAll();
+    }
+
+    @Test
+    void naturalIdLookups_shouldBeServedWithEntityAndCollections_fromTheCache() {
+        onOtherNode(this::loadByCpf);
+        Statistics statistics = this.otherNode.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        String loaded = onOtherNode(this::loadByCpf);
+
+        assertEquals("Matheus Pires 11988887777 Main Street", loaded);
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getNaturalIdCacheHitCount());
+        // the client, its two collections, the phone and the address
+        assertEquals(5, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void writesOnOneNode_shouldEvictTheEntriesCachedByTheOthers() {
+        assertEquals("Matheus Pires 11988887777 Main Street", onOtherNode(this::loadByCpf));
+
+        new TransactionTemplate(this.transactionManager).executeWithoutResult(status -> {
+            Client client = this.clientRepository.findByCpf(CPF).orElseThrow();
+            client.setName("Mateus Pires");
+            client.getPhones().get(0).setNumber("11977776666");
+            client.getAddresses().add(Address.builder().street("Second Street").city("Goiânia").state("Goiás")
+                    .zipCode("74860406").client(client).build());
+        });
+
+        assertEquals("Mateus Pires 11977776666 Main Street,Second Street", onOtherNode(this::loadByCpf));
+
+        new TransactionTemplate(this.transactionManager).executeWithoutResult(status ->
+                this.clientRepository.findByCpf(CPF).orElseThrow().setCpf("52998224725"));
+
+        assertNull(onOtherNode(session -> session.bySimpleNaturalId(Client.class).load(CPF)));
+        assertEquals("Mateus Pires", onOtherNode(session ->
+                session.bySimpleNaturalId(Client.class).load("52998224725").getName()));
+    }
+
+    @Test
+    void regions_shouldBeBounded() {
+        InvalidatingRegionFactory regionFactory = (InvalidatingRegionFactory) this.entityManagerFactory
+                .unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory();
+
+        for (String region : List.of(Client.class.getName(), Client.class.getName() + ".phones",
+                Phone.class.getName(), Address.class.getName())) {
+            CaffeineConfiguration<?, ?> configuration =
+                    caffeineConfiguration(regionFactory.getCacheManager().getCache(region));
+            assertEquals(OptionalLong.of(1000), configuration.getMaximumSize(), region);
+        }
+    }
+
+    @SuppressWarnings("unchecked") // a class literal cannot carry the type arguments of the cache
+    private static <K, V> CaffeineConfiguration<K, V> caffeineConfiguration(Cache<K, V> cache) {
+        return cache.getConfiguration((Class<CaffeineConfiguration<K, V>>) (Class<?>) CaffeineConfiguration.class);
+    }
+
+    private String loadByCpf(Session session) {
+        Client client = session.bySimpleNaturalId(Client.class).load(CPF);
+        return client.getName() + " " + client.getPhones().get(0).getNumber() + " "
+                + String.join(",", client.getAddresses().stream().map(Address::getStreet).sorted().toList());
+    }
+
+    private <T> T onOtherNode(Function<Session, T> work) {
+        EntityManager entityManager = this.otherNode.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            T result = work.apply(entityManager.unwrap(Session.class));
+            entityManager.getTransaction().commit();
+            return result;
+        } finally {
+            entityManager.close();
+        }
+    }
+}
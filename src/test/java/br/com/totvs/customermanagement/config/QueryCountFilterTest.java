@@ -0,0 +1,66 @@
+package br.com.totvs.customermanagement.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryCountFilterTest {
+
+    private MeterRegistry meterRegistry;
+    private JdbcTemplate jdbcTemplate;
+    private QueryCountFilter filter;
+
+    @BeforeEach
+    void setup() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.jdbcTemplate = new JdbcTemplate(MetricsConfig.instrument("dataSource",
+                new DriverManagerDataSource("jdbc:h2:mem:query-count", "sa", ""),
+                new StatementMetricsListener(() -> this.meterRegistry)));
+        this.filter = new QueryCountFilter(this.meterRegistry, 20);
+    }
+
+    @Test
+    void shouldRecordStatementsExecutedByEachRequest() throws Exception {
+        this.jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+
+        handle(3);
+        handle(1);
+
+        DistributionSummary summary = this.meterRegistry.get(QueryCountFilter.QUERIES_METRIC)
+                .tag("method", "GET").tag("uri", "/totvs/clients/{cpf}").summary();
+        assertEquals(2, summary.count());
+        assertEquals(4, summary.totalAmount());
+        assertEquals(3, summary.max());
+
+        Timer selects = this.meterRegistry.get(StatementMetricsListener.STATEMENTS_METRIC).tag("type", "select").timer();
+        assertEquals(5, selects.count());
+    }
+
+    private void handle(int statements) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/totvs/clients/12345678909");
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/totvs/clients/{cpf}");
+                for (int i = 0; i < statements; i++) {
+                    jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+                }
+            }
+        };
+        this.filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(servlet));
+    }
+}
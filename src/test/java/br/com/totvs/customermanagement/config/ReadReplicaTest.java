@@ -0,0 +1,162 @@
+package br.com.totvs.customermanagement.config;
+
+import br.com.totvs.customermanagement.exception.ClientNotFoundException;
+import br.com.totvs.customermanagement.model.Client;
+import br.com.totvs.customermanagement.payload.request.AddressRequestPayload;
+import br.com.totvs.customermanagement.payload.request.ClientRequestPayload;
+import br.com.totvs.customermanagement.payload.request.PhoneRequestPayload;
+import br.com.totvs.customermanagement.payload.response.ClientResponsePayload;
+import br.com.totvs.customermanagement.repository.ClientRepository;
+import br.com.totvs.customermanagement.service.ClientKeyFilterService;
+import br.com.totvs.customermanagement.service.ClientService;
+import br.com.totvs.customermanagement.util.UuidUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Uses a second in-memory database as the replica, filled by hand instead of by replication.
+ */
+@ActiveProfiles("test")
+@DataJpaTest(properties = {"totvs.datasource.replicas.enabled=true",
+        "totvs.datasource.replicas.urls=" + ReadReplicaTest.REPLICA_URL,
+        "totvs.datasource.replicas.max-lag=5s",
+        "totvs.datasource.replicas.lag-query=SELECT seconds FROM replica_lag",
+        "totvs.cache.entities.enabled=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+@Import({ReadReplicaConfig.class, CacheConfig.class, EntityCacheConfig.class, ClientService.class,
+        ClientKeyFilterService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReadReplicaTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+    private static final String REPLICA_CPF = "12345678909";
+    private static final String PRIMARY_CPF = "52998224725";
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ReadReplicas readReplicas;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setup() {
+        DataSource replicaDataSource = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+        Flyway.configure().dataSource(replicaDataSource).locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load().migrate();
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.replica.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds DOUBLE PRECISION)");
+        this.replica.update("DELETE FROM replica_lag");
+        this.replica.update("INSERT INTO replica_lag VALUES (0.2)");
+        this.replica.update("INSERT INTO clients (id, name, cpf) VALUES (?, 'Replica Client', ?)",
+                UuidUtil.timeOrdered(), Long.parseLong(REPLICA_CPF));
+        this.readReplicas.checkReplicas();
+    }
+
+    @AfterEach
+    void cleanup() {
+        this.replica.update("DELETE FROM clients");
+        this.clientRepository.deleteAll();
+        this.cacheManager.getCache(CacheConfig.CLIENTS_CACHE).clear();
+        this.entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void readOnlyTransactions_shouldReadFromTheReplica_andTheOthersFromThePrimary() {
+        ClientResponsePayload created = this.clientService.createClient(new ClientRequestPayload("Primary Client",
+                PRIMARY_CPF, List.of(new PhoneRequestPayload("11988887777")),
+                List.of(new AddressRequestPayload("Main Street", null, "Goiânia", "Goiás", "74860405"))));
+
+        assertEquals(List.of("replica-0"), this.readReplicas.availableReplicas());
+        assertEquals(List.of(REPLICA_CPF),
+                this.clientService.getAllClients().stream().map(ClientResponsePayload::cpf).toList());
+        assertEquals("Primary Client", created.name());
+        assertEquals(List.of("Primary Client"),
+                new JdbcTemplate(this.dataSource).queryForList("SELECT name FROM clients", String.class));
+    }
+
+    @Test
+    void laggingOrFailingReplicas_shouldLeaveTheReadsToThePrimary_untilTheyRecover() {
+        this.replica.update("UPDATE replica_lag SET seconds = 60");
+        this.readReplicas.checkReplicas();
+
+        assertEquals(List.of(), this.readReplicas.availableReplicas());
+        assertEquals(List.of(), this.clientService.getAllClients());
+
+        this.replica.update("UPDATE replica_lag SET seconds = 0");
+        this.readReplicas.checkReplicas();
+        assertEquals(List.of(REPLICA_CPF),
+                this.clientService.getAllClients().stream().map(ClientResponsePayload::cpf).toList());
+
+        this.replica.update("DELETE FROM replica_lag");
+        this.readReplicas.checkReplicas();
+        assertEquals(List.of(), this.readReplicas.availableReplicas());
+
+        this.replica.execute("DROP TABLE replica_lag");
+        this.readReplicas.checkReplicas();
+        assertEquals(List.of(), this.clientService.getAllClients());
+    }
+
+    @Test
+    void getClientByCpf_shouldReadFromTheReplica_butOnlyCacheWhatItReadFromThePrimary() {
+        // The replica has not applied the delete of this client yet
+        assertEquals("Replica Client", this.clientService.getClientByCpf(REPLICA_CPF).name());
+        assertNull(this.cacheManager.getCache(CacheConfig.CLIENTS_CACHE).get(REPLICA_CPF));
+
+        this.replica.update("UPDATE replica_lag SET seconds = 60");
+        this.readReplicas.checkReplicas();
+        assertThrows(ClientNotFoundException.class, () -> this.clientService.getClientByCpf(REPLICA_CPF));
+
+        this.clientService.createClient(new ClientRequestPayload("Primary Client", PRIMARY_CPF, List.of(),
+                List.of(new AddressRequestPayload("Main Street", null, "Goiânia", "Goiás", "74860405"))));
+        assertEquals("Primary Client", this.clientService.getClientByCpf(PRIMARY_CPF).name());
+        assertNotNull(this.cacheManager.getCache(CacheConfig.CLIENTS_CACHE).get(PRIMARY_CPF));
+    }
+
+    @Test
+    void readOnlyTransactions_shouldNotPutWhatTheyReadInTheEntityCache() {
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertEquals(List.of(REPLICA_CPF),
+                this.clientService.getAllClients().stream().map(ClientResponsePayload::cpf).toList());
+
+        assertEquals(0, statistics.getSecondLevelCachePutCount());
+        assertFalse(this.entityManagerFactory.getCache().contains(Client.class,
+                this.replica.queryForObject("SELECT id FROM clients", UUID.class)));
+    }
+}
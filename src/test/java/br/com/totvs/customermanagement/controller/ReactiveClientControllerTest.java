@@ -0,0 +1,77 @@
+package br.com.totvs.customermanagement.controller;
+
+import br.com.totvs.customermanagement.payload.response.ClientResponsePayload;
+import br.com.totvs.customermanagement.repository.ClientRepository;
+import br.com.totvs.customermanagement.service.ClientService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static br.com.totvs.customermanagement.ClientFixtures.request;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles({"test", "reactive"})
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReactiveClientControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ReactiveWebServerApplicationContext applicationContext;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @AfterEach
+    void cleanup() {
+        this.clientRepository.deleteAll();
+    }
+
+    @Test
+    void getAllClients_shouldBeStreamedByNetty() {
+        List<String> cpfs = List.of("12345678909", "52998224725", "98765432100");
+        for (int i = 0; i < cpfs.size(); i++) {
+            this.clientService.createClient(request("Client " + i, cpfs.get(i), "1190000000" + i));
+        }
+
+        StepVerifier.create(this.webTestClient.get().uri("/totvs/reactive/clients")
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .exchange()
+                        .expectStatus().isOk()
+                        .returnResult(ClientResponsePayload.class)
+                        .getResponseBody()
+                        .map(ClientResponsePayload::cpf), 1)
+                .expectNext(cpfs.get(0))
+                .thenRequest(2)
+                .expectNext(cpfs.get(1), cpfs.get(2))
+                .verifyComplete();
+        assertInstanceOf(NettyWebServer.class, this.applicationContext.getWebServer());
+    }
+
+    @Test
+    void getClientsPage_shouldRejectACursorThatIsNotACpf() {
+        this.webTestClient.get().uri("/totvs/reactive/clients?cursor=111.111.111-11")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void blockingRoutes_shouldNotBeServedByTheReactiveServer() {
+        this.webTestClient.get().uri("/totvs/clients/12345678909")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
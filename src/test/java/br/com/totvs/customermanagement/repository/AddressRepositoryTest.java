@@ -59,6 +59,14 @@ class AddressRepositoryTest {
         assertThat(addresses.get(0).getClient()).isEqualTo(this.client);
     }
 
+    @Test
+    void findByClientIn() {
+        List<Address> addresses = this.addressRepository.findByClientIn(List.of(this.client));
+
+        assertThat(addresses).hasSize(2);
+        assertThat(addresses).allMatch(address -> address.getClient().equals(this.client));
+    }
+
     @Test
     void deleteAllByClient() {
         this.addressRepository.deleteAllByClient(this.client);
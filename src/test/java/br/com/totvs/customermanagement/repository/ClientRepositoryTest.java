@@ -1,11 +1,18 @@
 package br.com.totvs.customermanagement.repository;
 
+import br.com.totvs.customermanagement.model.Address;
 import br.com.totvs.customermanagement.model.Client;
+import br.com.totvs.customermanagement.model.Phone;
+import br.com.totvs.customermanagement.repository.projection.ClientAggregateRow;
+import br.com.totvs.customermanagement.repository.projection.ClientConflictRow;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -17,6 +24,9 @@ class ClientRepositoryTest {
     @Autowired
     private ClientRepository clientRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     void findByCpf() {
         Client client = new Client();
@@ -29,6 +39,18 @@ class ClientRepositoryTest {
         assertEquals("Matheus Pires", found.get().getName());
     }
 
+    @Test
+    void save_shouldAssignTimeOrderedIds() {
+        Client client = new Client();
+        client.setCpf("12345678909");
+        client.setName("Matheus Pires");
+        client.setPhones(List.of(Phone.builder().number("11988887777").client(client).build()));
+        this.clientRepository.save(client);
+
+        assertEquals(7, client.getId().version());
+        assertEquals(7, client.getPhones().get(0).getId().version());
+    }
+
     @Test
     void existsClientByCpf() {
         Client client = new Client();
@@ -62,4 +84,78 @@ class ClientRepositoryTest {
         assertTrue(name.isPresent());
         assertEquals("Matheus Pires", name.get());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByCpfGreaterThanOrderByCpfAsc() {
+        for (String cpf : List.of("33333333333", "11111111111", "22222222222")) {
+            Client client = new Client();
+            client.setCpf(cpf);
+            client.setName("Client " + cpf);
+            this.clientRepository.save(client);
+        }
+
+        List<Client> firstPage = this.clientRepository.findByCpfGreaterThanOrderByCpfAsc("", Limit.of(2));
+        assertEquals(List.of("11111111111", "22222222222"), firstPage.stream().map(Client::getCpf).toList());
+
+        List<Client> lastPage = this.clientRepository.findByCpfGreaterThanOrderByCpfAsc("22222222222", Limit.of(2));
+        assertEquals(List.of("33333333333"), lastPage.stream().map(Client::getCpf).toList());
+    }
+
+    @Test
+    void findByCpfGreaterThanOrderByCpfAsc_shouldKeepLeadingZeros() {
+        for (String cpf : List.of("10000000019", "00000000191", "01234567890")) {
+            Client client = new Client();
+            client.setCpf(cpf);
+            client.setName("Client " + cpf);
+            this.clientRepository.save(client);
+        }
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        List<Client> clients = this.clientRepository.findByCpfGreaterThanOrderByCpfAsc("", Limit.of(3));
+        assertEquals(List.of("00000000191", "01234567890", "10000000019"),
+                clients.stream().map(Client::getCpf).toList());
+        assertTrue(this.clientRepository.findByCpf("00000000191").isPresent());
+        assertFalse(this.clientRepository.findByCpf("191").isPresent());
+    }
+
+    @Test
+    void findAggregateByCpf() {
+        Client client = new Client();
+        client.setCpf("12345678909");
+        client.setName("Matheus Pires");
+        client.setPhones(List.of(Phone.builder().number("11988887777").client(client).build()));
+        client.setAddresses(List.of(Address.builder().street("Main Street").city("Goiânia").state("Goiás")
+                .zipCode("74860405").client(client).build()));
+        this.clientRepository.save(client);
+
+        List<ClientAggregateRow> rows = this.clientRepository.findAggregateByCpf("12345678909");
+
+        assertEquals(3, rows.size());
+        assertTrue(rows.stream().anyMatch(row -> ClientAggregateRow.CLIENT.equals(row.getKind())
+                && "Matheus Pires".equals(row.getName())));
+        assertTrue(rows.stream().anyMatch(row -> ClientAggregateRow.PHONE.equals(row.getKind())
+                && "11988887777".equals(row.getNumber())));
+        assertTrue(rows.stream().anyMatch(row -> ClientAggregateRow.ADDRESS.equals(row.getKind())
+                && "74860405".equals(row.getZipCode())));
+        assertTrue(this.clientRepository.findAggregateByCpf("00000000000").isEmpty());
+    }
+
+    @Test
+    void findConflicts() {
+        Client client = new Client();
+        client.setCpf("12345678909");
+        client.setName("Matheus Pires");
+        client.setPhones(List.of(Phone.builder().number("11988887777").client(client).build()));
+        this.clientRepository.save(client);
+
+        List<ClientConflictRow> conflicts = this.clientRepository.findConflicts(
+                "12345678909", "Matheus Pires", List.of("11988887777", "11900000000"));
+
+        assertEquals(3, conflicts.size());
+        assertTrue(conflicts.stream().allMatch(conflict -> "12345678909".equals(conflict.getOwnerCpf())));
+        assertTrue(conflicts.stream().anyMatch(conflict -> ClientConflictRow.PHONE.equals(conflict.getKind())
+                && "11988887777".equals(conflict.getConflictingValue())));
+        assertTrue(this.clientRepository.findConflicts("00000000000", "Jane Smith", List.of()).isEmpty());
+    }
+}
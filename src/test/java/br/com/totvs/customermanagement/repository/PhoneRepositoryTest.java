@@ -51,6 +51,13 @@ class PhoneRepositoryTest {
         assertEquals("11988887777", phones.get(0).getNumber());
     }
 
+    @Test
+    void findByClientIn() {
+        List<Phone> phones = this.phoneRepository.findByClientIn(List.of(this.client));
+        assertEquals(1, phones.size());
+        assertEquals("11988887777", phones.get(0).getNumber());
+    }
+
     @Test
     void findClientByPhoneNumber() {
         Optional<Client> result = this.phoneRepository.findClientByPhoneNumber("11988887777");
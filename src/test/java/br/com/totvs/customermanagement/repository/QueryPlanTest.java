@@ -0,0 +1,278 @@
+package br.com.totvs.customermanagement.repository;
+
+import br.com.totvs.customermanagement.model.Address;
+import br.com.totvs.customermanagement.model.Client;
+import br.com.totvs.customermanagement.model.Phone;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs {@code EXPLAIN} on every statement issued by the repository queries, against the schema built by the Flyway
+ * migrations and a seeded database, and fails on any full table scan.
+ * <p>
+ * H2 silently indexes every foreign key column, which PostgreSQL does not, so H2 plans can look fine while the same
+ * query scans the whole table in production. The foreign keys are therefore also required to lead an index declared
+ * by the migrations.
+ * </p>
+ */
+@ActiveProfiles("test")
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QueryPlanTest {
+
+    private static final int CLIENTS = 200;
+
+    private static final List<String> TABLES = List.of("clients", "phones", "addresses");
+
+    private static final List<String> FULL_SCANS = List.of(".tablescan", "seq scan");
+
+    private static final StatementRecorder STATEMENTS = new StatementRecorder();
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PhoneRepository phoneRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Client client;
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(beanName, dataSource).listener(STATEMENTS).build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    @BeforeEach
+    void seed() {
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            Client seeded = Client.builder().name(String.format("Plan client %03d", i))
+                    .cpf(String.format("%011d", i)).build();
+            seeded.getPhones().add(Phone.builder().number(String.format("1190000%04d", i)).client(seeded).build());
+            seeded.getAddresses().add(Address.builder().street("Main Street").city("Goiânia").state("Goiás")
+                    .zipCode("74860405").client(seeded).build());
+            clients.add(seeded);
+        }
+        this.clientRepository.saveAll(clients);
+        this.client = clients.get(CLIENTS / 2);
+    }
+
+    @AfterEach
+    void cleanup() {
+        this.clientRepository.deleteAll();
+    }
+
+    @Test
+    void foreignKeys_shouldLeadAnIndexDeclaredByTheMigrations() throws SQLException {
+        try (Connection connection = this.dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String table : TABLES) {
+                String name = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+                Map<String, String> foreignKeys = new LinkedHashMap<>();
+                try (ResultSet keys = metaData.getImportedKeys(null, null, name)) {
+                    while (keys.next()) {
+                        foreignKeys.put(keys.getString("FK_NAME"), keys.getString("FKCOLUMN_NAME"));
+                    }
+                }
+
+                Set<String> indexedColumns = new HashSet<>();
+                try (ResultSet indexes = metaData.getIndexInfo(null, null, name, false, false)) {
+                    while (indexes.next()) {
+                        String index = indexes.getString("INDEX_NAME");
+                        boolean implicit = index != null && foreignKeys.keySet().stream()
+                                .anyMatch(foreignKey -> index.startsWith(foreignKey + "_INDEX_"));
+                        if (!implicit && indexes.getShort("ORDINAL_POSITION") == 1) {
+                            indexedColumns.add(indexes.getString("COLUMN_NAME"));
+                        }
+                    }
+                }
+
+                foreignKeys.forEach((foreignKey, column) -> assertTrue(indexedColumns.contains(column),
+                        () -> "Foreign key " + foreignKey + " on " + table + "." + column + " has no index"));
+            }
+        }
+    }
+
+    @Test
+    void phoneAndAddressWrites_shouldFilterOnThePartitionKey() {
+        List<String> writes = record(() -> {
+            Client client = this.clientRepository.findById(this.client.getId()).orElseThrow();
+            client.getPhones().get(0).setNumber("11999999999");
+            client.getAddresses().remove(0);
+        }).stream()
+                .map(statement -> statement.sql().toLowerCase(Locale.ROOT))
+                .filter(sql -> sql.matches("(update|delete from) (phones|addresses) .*"))
+                .toList();
+
+        assertEquals(2, writes.size(), writes::toString);
+        writes.forEach(sql -> assertTrue(sql.matches(".* where .*client_id ?= ?\\?.*"), sql));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueries_shouldNotScanWholeTables() {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("ClientRepository.findById", () -> this.clientRepository.findById(this.client.getId()));
+        queries.put("ClientRepository.findByCpf", () -> this.clientRepository.findByCpf(this.client.getCpf()));
+        queries.put("ClientRepository.existsClientByCpf", () -> this.clientRepository.existsClientByCpf(this.client.getCpf()));
+        queries.put("ClientRepository.existsClientByName", () -> this.clientRepository.existsClientByName(this.client.getName()));
+        queries.put("ClientRepository.findNameByCpf", () -> this.clientRepository.findNameByCpf(this.client.getCpf()));
+        queries.put("ClientRepository.findByCpfGreaterThanOrderByCpfAsc",
+                () -> this.clientRepository.findByCpfGreaterThanOrderByCpfAsc(this.client.getCpf(), Limit.of(10)));
+        queries.put("ClientRepository.findExistingCpfs",
+                () -> this.clientRepository.findExistingCpfs(List.of(this.client.getCpf(), "00000000191")));
+        queries.put("ClientRepository.findExistingNames",
+                () -> this.clientRepository.findExistingNames(List.of(this.client.getName(), "Nobody")));
+        queries.put("ClientRepository.findAggregateByCpf", () -> this.clientRepository.findAggregateByCpf(this.client.getCpf()));
+        queries.put("ClientRepository.findConflicts", () -> this.clientRepository.findConflicts(this.client.getCpf(),
+                this.client.getName(), List.of("11900000001", "11900000002")));
+        queries.put("ClientRepository.deleteByCpf", () -> this.clientRepository.deleteByCpf(this.client.getCpf()));
+        queries.put("ClientRepository.deleteByCpfIn",
+                () -> this.clientRepository.deleteByCpfIn(List.of(this.client.getCpf(), "00000000191")));
+        queries.put("ClientRepository.delete", () -> this.clientRepository.delete(
+                this.clientRepository.findByCpf(this.client.getCpf()).orElseThrow()));
+        queries.put("PhoneRepository.existsPhoneByNumber", () -> this.phoneRepository.existsPhoneByNumber("11900000001"));
+        queries.put("PhoneRepository.findByClient", () -> this.phoneRepository.findByClient(this.client));
+        queries.put("PhoneRepository.findByClientIn", () -> this.phoneRepository.findByClientIn(List.of(this.client)));
+        queries.put("PhoneRepository.deleteAllByClient", () -> this.phoneRepository.deleteAllByClient(this.client));
+        queries.put("PhoneRepository.findClientByPhoneNumber", () -> this.phoneRepository.findClientByPhoneNumber("11900000001"));
+        queries.put("PhoneRepository.findExistingNumbers",
+                () -> this.phoneRepository.findExistingNumbers(List.of("11900000001", "11900000002")));
+        queries.put("AddressRepository.findByClient", () -> this.addressRepository.findByClient(this.client));
+        queries.put("AddressRepository.findByClientIn", () -> this.addressRepository.findByClientIn(List.of(this.client)));
+        queries.put("AddressRepository.deleteAllByClient", () -> this.addressRepository.deleteAllByClient(this.client));
+
+        return queries.entrySet().stream().map(query -> DynamicTest.dynamicTest(query.getKey(), () -> {
+            List<RecordedStatement> statements = record(query.getValue());
+            assertFalse(statements.isEmpty(), "No statement was executed");
+            for (RecordedStatement statement : statements) {
+                String plan = explain(statement);
+                assertTrue(FULL_SCANS.stream().noneMatch(plan.toLowerCase(Locale.ROOT)::contains),
+                        () -> "Full table scan in:\n" + plan);
+            }
+        }));
+    }
+
+    /**
+     * Runs a repository call in a transaction that is flushed and rolled back, so the seeded data stays in place,
+     * and returns the statements it executed.
+     */
+    private List<RecordedStatement> record(Runnable query) {
+        TransactionTemplate transaction = new TransactionTemplate(this.transactionManager);
+        transaction.executeWithoutResult(status -> {
+            STATEMENTS.clear();
+            query.run();
+            this.entityManager.flush();
+            status.setRollbackOnly();
+        });
+        List<RecordedStatement> statements = STATEMENTS.statements();
+        STATEMENTS.clear();
+        return statements;
+    }
+
+    private String explain(RecordedStatement statement) throws Exception {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+            for (ParameterSetOperation parameter : statement.parameters()) {
+                parameter.getMethod().invoke(explain, parameter.getArgs());
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rows = explain.executeQuery()) {
+                while (rows.next()) {
+                    plan.append(rows.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    record RecordedStatement(String sql, List<ParameterSetOperation> parameters) {
+    }
+
+    static class StatementRecorder implements QueryExecutionListener {
+
+        private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            for (QueryInfo query : queryInfoList) {
+                List<ParameterSetOperation> parameters = query.getParametersList().isEmpty()
+                        ? List.of() : List.copyOf(query.getParametersList().get(0));
+                this.statements.add(new RecordedStatement(query.getQuery(), parameters));
+            }
+        }
+
+        List<RecordedStatement> statements() {
+            return List.copyOf(this.statements);
+        }
+
+        void clear() {
+            this.statements.clear();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package br.com.totvs.customermanagement.service;
+
+import br.com.totvs.customermanagement.payload.request.ClientPatchRequestPayload;
+import br.com.totvs.customermanagement.payload.response.ClientChangePayload;
+import br.com.totvs.customermanagement.payload.response.ClientChangesPayload;
+import br.com.totvs.customermanagement.repository.ClientRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static br.com.totvs.customermanagement.ClientFixtures.request;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@DataJpaTest(properties = "totvs.outbox.batch-size=2")
+@Import({ClientService.class, ClientKeyFilterService.class, ClientChangeOutbox.class, ClientChangeService.class,
+        ClientChangeServiceTest.RecordingSink.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ClientChangeServiceTest {
+
+    @Autowired
+    private ClientChangeService clientChangeService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RecordingSink sink;
+
+    @BeforeEach
+    void setup() {
+        this.jdbcTemplate.update("DELETE FROM client_changes");
+        this.jdbcTemplate.update("UPDATE client_change_cursor SET last_position = 0");
+        this.sink.changes.clear();
+        this.sink.failing = false;
+    }
+
+    @AfterEach
+    void cleanup() {
+        this.clientRepository.deleteAll();
+    }
+
+    @Test
+    void mutations_shouldWriteTheOutboxInTheirTransaction_andOnlyOnCommit() {
+        this.clientService.createClient(request("Matheus Pires", "12345678909", "11945678909"));
+        this.clientService.patchClient("12345678909", new ClientPatchRequestPayload("Mateus Pires", null, null, null));
+        new TransactionTemplate(this.transactionManager).executeWithoutResult(status -> {
+            this.clientService.patchClient("12345678909", new ClientPatchRequestPayload("Rolled Back", null, null, null));
+            status.setRollbackOnly();
+        });
+        this.clientService.deleteClient("12345678909");
+
+        assertEquals(3, this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM client_changes", Integer.class));
+        assertEquals(List.of(), this.clientChangeService.getChanges(null, 10).changes());
+    }
+
+    @Test
+    void deleteClients_shouldOnlyRecordTheClientsItDeleted() {
+        this.clientService.createClient(request("Matheus Pires", "12345678909", "11945678909"));
+        this.clientService.createClient(request("Maria Souza", "52998224725", "11998224725"));
+
+        assertEquals(1, this.clientService.deleteClients(List.of("12345678909", "11144477735", "12345678909")));
+
+        assertEquals(List.of("12345678909"), this.jdbcTemplate.queryForList(
+                "SELECT previous_cpf FROM client_changes WHERE payload IS NULL", String.class));
+    }
+
+    @Test
+    void publishPending_shouldDeliverBatchesInOrder_andFeedThemAfterTheirToken() {
+        this.clientService.createClient(request("Matheus Pires", "12345678909", "11945678909"));
+        this.clientService.createClient(request("Maria Souza", "52998224725", "11998224725"));
+        this.clientService.updateClient("52998224725", request("Maria Souza Lima", "52998224725", "11998224725"));
+        this.clientService.deleteClient("12345678909");
+
+        assertEquals(4, this.clientChangeService.publishPending());
+        assertEquals(0, this.clientChangeService.publishPending());
+
+        assertEquals(List.of("1", "2", "3", "4"), this.sink.changes.stream().map(ClientChangePayload::token).toList());
+        ClientChangesPayload all = this.clientChangeService.getChanges(null, 10);
+        assertEquals(this.sink.changes, all.changes());
+        assertEquals(List.of(ClientChangePayload.Type.CREATED, ClientChangePayload.Type.CREATED,
+                ClientChangePayload.Type.UPDATED, ClientChangePayload.Type.DELETED),
+                all.changes().stream().map(ClientChangePayload::type).toList());
+        assertEquals("Maria Souza Lima", all.changes().get(2).client().name());
+        assertEquals("12345678909", all.changes().get(3).previousCpf());
+        assertNull(all.changes().get(3).client());
+
+        ClientChangesPayload delta = this.clientChangeService.getChanges(2L, 1);
+        assertEquals(List.of("3"), delta.changes().stream().map(ClientChangePayload::token).toList());
+        assertEquals("3", delta.next());
+        assertEquals(new ClientChangesPayload(List.of(), "4"), this.clientChangeService.getChanges(4L, 10));
+    }
+
+    @Test
+    void publishPending_shouldKeepChangesInTheOutbox_whenASinkFails() {
+        this.clientService.createClient(request("Matheus Pires", "12345678909", "11945678909"));
+        this.sink.failing = true;
+
+        assertThrows(IllegalStateException.class, () -> this.clientChangeService.publishPending());
+        assertEquals(List.of(), this.clientChangeService.getChanges(null, 10).changes());
+
+        this.sink.failing = false;
+        assertEquals(1, this.clientChangeService.publishPending());
+        assertEquals("1", this.clientChangeService.getChanges(null, 10).next());
+    }
+
+    static class RecordingSink implements ClientChangeSink {
+
+        private final List<ClientChangePayload> changes = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void publish(List<ClientChangePayload> changes) {
+            if (this.failing) {
+                throw new IllegalStateException("Broker unavailable");
+            }
+            this.changes.addAll(changes);
+        }
+    }
+}
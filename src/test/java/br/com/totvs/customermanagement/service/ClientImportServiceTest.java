@@ -0,0 +1,129 @@
+package br.com.totvs.customermanagement.service;
+
+import br.com.totvs.customermanagement.model.Client;
+import br.com.totvs.customermanagement.payload.response.ImportResponsePayload;
+import br.com.totvs.customermanagement.repository.AddressRepository;
+import br.com.totvs.customermanagement.repository.ClientRepository;
+import br.com.totvs.customermanagement.repository.PhoneRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@Import(ClientImportService.class)
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ClientImportServiceTest {
+
+    @Autowired
+    private ClientImportService clientImportService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PhoneRepository phoneRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @AfterEach
+    void cleanup() {
+        this.clientRepository.deleteAll();
+    }
+
+    @Test
+    void importClients_shouldImportNdjsonRecords() throws IOException {
+        String ndjson = """
+                {"name":"Matheus Pires","cpf":"12345678909","phones":[{"number":"11988887777"},{"number":"11977776666"}],"addresses":[{"street":"Main Street","city":"Goiânia","state":"Goiás","zipCode":"74860405"}]}
+
+                {"name":"Another Client","cpf":"98765432100","phones":[{"number":"11966665555"}],"addresses":[{"street":"Second Street","complement":"QD12","city":"Goiânia","state":"Goiás","zipCode":"74860406"}]}
+                """;
+
+        ImportResponsePayload response = this.clientImportService.importClients(reader(ndjson), ClientImportService.Format.NDJSON);
+
+        assertEquals(2, response.processed());
+        assertEquals(2, response.imported());
+        assertEquals(0, response.failed());
+        assertEquals(2, this.clientRepository.count());
+        assertEquals(3, this.phoneRepository.count());
+        assertEquals(2, this.addressRepository.count());
+    }
+
+    @Test
+    void importClients_shouldImportCsvRecords() throws IOException {
+        String csv = """
+                name,cpf,phones,street,complement,city,state,zipCode
+                Matheus Pires,12345678909,11988887777|11977776666,"Main Street, 123",,Goiânia,Goiás,74860405
+                """;
+
+        ImportResponsePayload response = this.clientImportService.importClients(reader(csv), ClientImportService.Format.CSV);
+
+        assertEquals(1, response.imported());
+        Client client = this.clientRepository.findByCpf("12345678909").orElseThrow();
+        assertEquals(2, this.phoneRepository.findByClient(client).size());
+        assertEquals("Main Street, 123", this.addressRepository.findByClient(client).get(0).getStreet());
+    }
+
+    @Test
+    void importClients_shouldReportRejectedRecordsWithoutAbortingImport() throws IOException {
+        this.clientImportService.importClients(reader("""
+                name,cpf,phones,street,complement,city,state,zipCode
+                Existing Client,98765432100,11955554444,Main Street,,Goiânia,Goiás,74860405
+                """), ClientImportService.Format.CSV);
+
+        String csv = """
+                name,cpf,phones,street,complement,city,state,zipCode
+                Matheus Pires,12345678909,11988887777,Main Street,,Goiânia,Goiás,74860405
+                Invalid Cpf Client,12345678900,11977776666,Main Street,,Goiânia,Goiás,74860405
+                Duplicated Cpf,12345678909,11966665555,Main Street,,Goiânia,Goiás,74860405
+                Existing Client,52998224725,11933332222,Main Street,,Goiânia,Goiás,74860405
+                Existing Phone Client,11144477735,11955554444,Main Street,,Goiânia,Goiás,74860405
+                Short,15350946056,11922221111,Main Street,,Goiânia,Goiás,74860405
+                Malformed,"15350946056
+                """;
+
+        ImportResponsePayload response = this.clientImportService.importClients(reader(csv), ClientImportService.Format.CSV);
+
+        assertEquals(7, response.processed());
+        assertEquals(1, response.imported());
+        assertEquals(6, response.failed());
+        assertEquals(3, response.errors().get(0).line());
+        assertEquals("CPF 12345678900 is invalid", response.errors().get(0).message());
+        assertTrue(response.errors().stream().anyMatch(error -> error.line() == 4 && error.message().contains("duplicated")));
+        assertTrue(response.errors().stream().anyMatch(error -> error.line() == 5
+                && error.message().equals("Client name 'Existing Client' is already registered")));
+        assertTrue(response.errors().stream().anyMatch(error -> error.line() == 6
+                && error.message().equals("Phone number 11955554444 is already registered")));
+        assertTrue(response.errors().stream().anyMatch(error -> error.line() == 7 && error.message().startsWith("name size")));
+        assertTrue(response.errors().stream().anyMatch(error -> error.line() == 8 && error.message().startsWith("Malformed record")));
+        assertTrue(this.clientRepository.existsClientByCpf("12345678909"));
+    }
+
+    @Test
+    void importClients_shouldRejectUnknownCsvHeader() throws IOException {
+        ImportResponsePayload response = this.clientImportService.importClients(reader("name,cpf\n"), ClientImportService.Format.CSV);
+
+        assertEquals(0, response.imported());
+        assertEquals(1, response.failed());
+    }
+
+    private static BufferedReader reader(String content) {
+        return new BufferedReader(new StringReader(content));
+    }
+}
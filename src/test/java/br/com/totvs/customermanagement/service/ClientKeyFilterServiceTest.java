@@ -0,0 +1,116 @@
+package br.com.totvs.customermanagement.service;
+
+import br.com.totvs.customermanagement.exception.CpfAlreadyExistsException;
+import br.com.totvs.customermanagement.exception.NameAlreadyExistsException;
+import br.com.totvs.customermanagement.exception.PhoneNumberAlreadyExistsException;
+import br.com.totvs.customermanagement.payload.request.ClientPatchRequestPayload;
+import br.com.totvs.customermanagement.payload.request.PhoneRequestPayload;
+import br.com.totvs.customermanagement.repository.ClientRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static br.com.totvs.customermanagement.ClientFixtures.cpf;
+import static br.com.totvs.customermanagement.ClientFixtures.request;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@DataJpaTest(properties = {"spring.jpa.properties.hibernate.generate_statistics=true",
+        "totvs.key-filter.minimum-keys=1000"})
+@Import({ClientService.class, ClientKeyFilterService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ClientKeyFilterServiceTest {
+
+    @Autowired
+    private ClientKeyFilterService keyFilter;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.keyFilter.bindTo(this.meterRegistry);
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanup() {
+        this.clientRepository.deleteAll();
+    }
+
+    @Test
+    void createClient_shouldSkipTheConflictsQuery_forValuesTheFilterHasNotSeen() {
+        this.clientService.createClient(request("Matheus Pires", cpf(1), "11900000001"));
+        this.keyFilter.loadFilter().join();
+
+        long queries = conflictQueries();
+        double absent = counter("totvs.key.filter.checks", "absent");
+        double possible = counter("totvs.key.filter.checks", "possible");
+        double falsePositives = this.meterRegistry.get("totvs.key.filter.false.positives").functionCounter().count();
+        this.clientService.createClient(request("Maria Souza", cpf(2), "11900000002"));
+        assertEquals(queries, conflictQueries());
+
+        // Added by the committed create, so the same values go to the database
+        CpfAlreadyExistsException conflict = assertThrows(CpfAlreadyExistsException.class,
+                () -> this.clientService.createClient(request("Maria Souza", cpf(2), "11900000002")));
+        assertEquals(2, conflict.getSuppressed().length);
+        assertThrows(PhoneNumberAlreadyExistsException.class,
+                () -> this.clientService.createClient(request("Joana Souza", cpf(3), "11900000001")));
+        assertEquals(queries + 2, conflictQueries());
+
+        assertEquals(absent + 1, counter("totvs.key.filter.checks", "absent"));
+        assertEquals(possible + 2, counter("totvs.key.filter.checks", "possible"));
+        assertEquals(falsePositives, this.meterRegistry.get("totvs.key.filter.false.positives").functionCounter().count());
+        assertEquals(6, this.meterRegistry.get("totvs.key.filter.keys").gauge().value());
+    }
+
+    @Test
+    void patchClient_shouldOnlyCheckTheValuesTheClientDoesNotHave() {
+        this.clientService.createClient(request("Matheus Pires", cpf(1), "11900000001"));
+        this.clientService.createClient(request("Maria Souza", cpf(2), "11900000002"));
+        this.keyFilter.loadFilter().join();
+
+        long queries = conflictQueries();
+        this.clientService.patchClient(cpf(1), new ClientPatchRequestPayload("Matheus Pires", cpf(1),
+                List.of(new PhoneRequestPayload("11900000001"), new PhoneRequestPayload("11900000003")), null));
+        assertEquals(queries, conflictQueries());
+
+        assertThrows(NameAlreadyExistsException.class, () -> this.clientService.patchClient(cpf(1),
+                new ClientPatchRequestPayload("Maria Souza", null, null, null)));
+        assertEquals(queries + 1, conflictQueries());
+    }
+
+    private long conflictQueries() {
+        return Arrays.stream(this.statistics.getQueries())
+                .filter(query -> query.contains("'CPF' AS kind"))
+                .mapToLong(query -> this.statistics.getQueryStatistics(query).getExecutionCount())
+                .sum();
+    }
+
+    private double counter(String name, String result) {
+        return this.meterRegistry.get(name).tag("result", result).functionCounter().count();
+    }
+}
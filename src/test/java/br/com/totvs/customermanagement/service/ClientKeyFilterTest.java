@@ -0,0 +1,52 @@
+package br.com.totvs.customermanagement.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientKeyFilterTest {
+
+    private static final int KEYS = 100_000;
+
+    @Test
+    void mightContain_shouldFindEveryKeyAdded_andFewOthers() {
+        ClientKeyFilter filter = new ClientKeyFilter(KEYS, 0.01);
+        for (int i = 0; i < KEYS; i++) {
+            filter.putPhone(String.valueOf(11_900_000_000L + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < KEYS; i++) {
+            assertTrue(filter.mightContainPhone(String.valueOf(11_900_000_000L + i)));
+            if (filter.mightContainPhone(String.valueOf(21_900_000_000L + i))) {
+                falsePositives++;
+            }
+        }
+
+        double falsePositiveRate = (double) falsePositives / KEYS;
+        assertTrue(falsePositiveRate < 0.015, "false positive rate " + falsePositiveRate);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.001);
+        assertTrue(filter.size() > KEYS * 0.99);
+        // About 9.6 bits per key
+        assertEquals(KEYS * 9.6 / 8, filter.memoryBytes(), KEYS * 0.1 / 8);
+    }
+
+    @Test
+    void mightContain_shouldKeepTheKindsOfKeysApart() {
+        ClientKeyFilter filter = new ClientKeyFilter(1000, 0.001);
+        filter.putCpf("52998224725");
+        filter.putName("Matheus Pires");
+
+        assertTrue(filter.mightContainCpf("52998224725"));
+        assertTrue(filter.mightContainName("Matheus Pires"));
+        assertFalse(filter.mightContainPhone("52998224725"));
+        assertFalse(filter.mightContainCpf("Matheus Pires"));
+        assertEquals(2, filter.size());
+    }
+
+    @Test
+    void constructor_shouldRejectAnImpossibleFalsePositiveRate() {
+        assertThrows(IllegalArgumentException.class, () -> new ClientKeyFilter(1000, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ClientKeyFilter(1000, 1));
+    }
+}
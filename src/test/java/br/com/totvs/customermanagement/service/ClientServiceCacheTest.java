@@ -0,0 +1,173 @@
+package br.com.totvs.customermanagement.service;
+
+import br.com.totvs.customermanagement.config.CacheConfig;
+import br.com.totvs.customermanagement.payload.response.ClientResponsePayload;
+import br.com.totvs.customermanagement.repository.ClientRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.totvs.customermanagement.ClientFixtures.request;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doAnswer;
+
+@ActiveProfiles("test")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ClientService.class, ClientKeyFilterService.class, CacheConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ClientServiceCacheTest {
+
+    private static final String CPF = "12345678909";
+    private static final String NEW_CPF = "98765432100";
+    private static final String PHONE = "11900000001";
+    private static final String NEW_PHONE = "11900000002";
+
+    @Autowired
+    private ClientService clientService;
+
+    @MockitoSpyBean
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Cache cache;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        this.clientService.createClient(request("Matheus Pires", CPF, PHONE));
+        this.cache = this.cacheManager.getCache(CacheConfig.CLIENTS_CACHE);
+        this.cache.clear();
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.clear();
+    }
+
+    @AfterEach
+    void cleanup() {
+        this.clientRepository.deleteAll();
+        this.cache.clear();
+    }
+
+    @Test
+    void getClientByCpf_shouldBeServedFromCache_onRepeatedLookups() {
+        ClientResponsePayload first = this.clientService.getClientByCpf(CPF);
+        ClientResponsePayload second = this.clientService.getClientByCpf(CPF);
+
+        assertEquals(first, second);
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void createClient_shouldLeaveTheCreatedClientToTheFirstRead() {
+        this.clientService.createClient(request("Another Client", NEW_CPF, NEW_PHONE));
+
+        assertNull(this.cache.get(NEW_CPF));
+        assertEquals("Another Client", this.clientService.getClientByCpf(NEW_CPF).name());
+        ClientResponsePayload cached = this.cache.get(NEW_CPF, ClientResponsePayload.class);
+        assertNotNull(cached);
+        assertEquals("Another Client", cached.name());
+    }
+
+    @Test
+    void updateClient_shouldEvictBothEntries_whenCpfChanges() {
+        this.clientService.getClientByCpf(CPF);
+
+        this.clientService.updateClient(CPF, request("Matheus Pires Updated", NEW_CPF, NEW_PHONE));
+
+        assertNull(this.cache.get(CPF));
+        assertNull(this.cache.get(NEW_CPF));
+        assertEquals("Matheus Pires Updated", this.clientService.getClientByCpf(NEW_CPF).name());
+    }
+
+    @Test
+    void updateClient_shouldRefreshEntry_whenCpfIsKept() {
+        this.clientService.getClientByCpf(CPF);
+
+        this.clientService.updateClient(CPF, request("Matheus Pires Updated", CPF, PHONE));
+
+        assertEquals("Matheus Pires Updated", this.clientService.getClientByCpf(CPF).name());
+    }
+
+    @Test
+    void getClientByCpf_shouldNotKeepWhatItReadBeforeAConcurrentUpdateCommitted() throws Exception {
+        CountDownLatch read = new CountDownLatch(1);
+        CountDownLatch updated = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            Object rows = repository().answer(invocation);
+            read.countDown();
+            assertTrue(updated.await(10, TimeUnit.SECONDS));
+            return rows;
+        }).doAnswer(repository()).when(this.clientRepository).findAggregateByCpf(CPF);
+
+        CompletableFuture<ClientResponsePayload> staleRead =
+                CompletableFuture.supplyAsync(() -> this.clientService.getClientByCpf(CPF));
+        assertTrue(read.await(10, TimeUnit.SECONDS));
+        this.clientService.updateClient(CPF, request("Matheus Pires Updated", CPF, PHONE));
+        updated.countDown();
+
+        assertEquals("Matheus Pires", staleRead.get(10, TimeUnit.SECONDS).name());
+        assertNull(this.cache.get(CPF));
+        assertEquals("Matheus Pires Updated", this.clientService.getClientByCpf(CPF).name());
+    }
+
+    @Test
+    void getClientByCpf_shouldNotKeepWhatItReadBeforeAConcurrentClear() throws Exception {
+        CountDownLatch read = new CountDownLatch(1);
+        CountDownLatch deleted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            Object rows = repository().answer(invocation);
+            read.countDown();
+            assertTrue(deleted.await(10, TimeUnit.SECONDS));
+            return rows;
+        }).when(this.clientRepository).findAggregateByCpf(CPF);
+
+        CompletableFuture<ClientResponsePayload> staleRead =
+                CompletableFuture.supplyAsync(() -> this.clientService.getClientByCpf(CPF));
+        assertTrue(read.await(10, TimeUnit.SECONDS));
+        assertEquals(1, this.clientService.deleteClients(List.of(CPF)));
+        deleted.countDown();
+
+        assertEquals("Matheus Pires", staleRead.get(10, TimeUnit.SECONDS).name());
+        assertNull(this.cache.get(CPF));
+    }
+
+    @Test
+    void deleteClient_shouldEvictEntry() {
+        this.clientService.getClientByCpf(CPF);
+
+        this.clientService.deleteClient(CPF);
+
+        assertNull(this.cache.get(CPF));
+    }
+
+    /**
+     * The repository is a JDK proxy, so its spy reaches the real repository through its default answer.
+     */
+    private Answer<?> repository() {
+        return Mockito.mockingDetails(this.clientRepository).getMockCreationSettings().getDefaultAnswer();
+    }
+}
@@ -0,0 +1,220 @@
+package br.com.totvs.customermanagement.service;
+
+import br.com.totvs.customermanagement.config.MetricsConfig;
+import br.com.totvs.customermanagement.config.StatementMetricsListener;
+import br.com.totvs.customermanagement.model.Address;
+import br.com.totvs.customermanagement.model.Client;
+import br.com.totvs.customermanagement.model.Phone;
+import br.com.totvs.customermanagement.payload.request.AddressRequestPayload;
+import br.com.totvs.customermanagement.payload.request.ClientPatchRequestPayload;
+import br.com.totvs.customermanagement.payload.request.ClientRequestPayload;
+import br.com.totvs.customermanagement.payload.request.PhoneRequestPayload;
+import br.com.totvs.customermanagement.repository.AddressRepository;
+import br.com.totvs.customermanagement.repository.ClientRepository;
+import br.com.totvs.customermanagement.repository.PhoneRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ClientService.class, ClientKeyFilterService.class, MetricsConfig.class, SimpleMeterRegistry.class})
+class ClientServiceQueryCountTest {
+
+    private static final int CLIENTS = 10;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PhoneRepository phoneRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        for (int i = 0; i < CLIENTS; i++) {
+            Client client = Client.builder().name("Client number " + i).cpf(String.format("%011d", i)).build();
+            client.setPhones(List.of(
+                    Phone.builder().number("1198888000" + i).client(client).build(),
+                    Phone.builder().number("1197777000" + i).client(client).build()));
+            client.setAddresses(List.of(
+                    Address.builder().street("Main Street").city("Goiânia").state("Goiás").zipCode("74860405").client(client).build(),
+                    Address.builder().street("Second Street").city("Goiânia").state("Goiás").zipCode("74860406").client(client).build()));
+            this.clientRepository.save(client);
+        }
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.clear();
+        this.meterRegistry.clear();
+    }
+
+    @Test
+    void createClient_shouldInsertTheAggregateWithOneBatchPerTable() {
+        var request = new ClientRequestPayload("New client", "12345678909",
+                List.of(new PhoneRequestPayload("11955550001"), new PhoneRequestPayload("11955550002"),
+                        new PhoneRequestPayload("11955550003")),
+                List.of(new AddressRequestPayload("Main Street", null, "Goiânia", "Goiás", "74860405"),
+                        new AddressRequestPayload("Second Street", "Apartment 1", "Goiânia", "Goiás", "74860406")));
+
+        this.clientService.createClient(request);
+
+        assertEquals(6, this.statistics.getEntityInsertCount());
+        assertEquals(3, inserts(true));
+        assertEquals(0, inserts(false));
+        this.entityManager.clear();
+        assertEquals(3, this.clientRepository.findByCpf("12345678909").orElseThrow().getPhones().size());
+    }
+
+    @Test
+    void getAllClients_shouldRunFixedNumberOfQueries() {
+        var clients = this.clientService.getAllClients();
+
+        assertEquals(CLIENTS, clients.size());
+        assertTrue(clients.stream().allMatch(client -> client.phones().size() == 2 && client.addresses().size() == 2));
+        assertEquals(3, this.statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getClientsPage_shouldRunFixedNumberOfQueries() {
+        var page = this.clientService.getClientsPage(null, 4);
+
+        assertEquals(4, page.clients().size());
+        assertNotNull(page.next());
+        assertEquals(3, this.statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getClientByCpf_shouldRunSingleQuery() {
+        var client = this.clientService.getClientByCpf(String.format("%011d", 3));
+
+        assertEquals("Client number 3", client.name());
+        assertEquals(2, client.phones().size());
+        assertEquals(2, client.addresses().size());
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+        assertEquals(0, this.statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void updateClient_shouldOnlyWriteChangedRows() {
+        String cpf = String.format("%011d", 3);
+        var request = new ClientRequestPayload("Renamed client 3", cpf,
+                List.of(new PhoneRequestPayload("11988880003"), new PhoneRequestPayload("11966660003")),
+                List.of(new AddressRequestPayload("Main Street", null, "Goiânia", "Goiás", "74860405"),
+                        new AddressRequestPayload("Second Street", null, "Goiânia", "Goiás", "74860406")));
+
+        var client = this.clientService.updateClient(cpf, request);
+
+        assertEquals("Renamed client 3", client.name());
+        assertEquals(2, this.statistics.getEntityUpdateCount());
+        assertEquals(0, this.statistics.getEntityInsertCount());
+        assertEquals(0, this.statistics.getEntityDeleteCount());
+    }
+
+    @Test
+    void patchClient_shouldOnlyUpdateTheClientRow() {
+        var client = this.clientService.patchClient(String.format("%011d", 3),
+                new ClientPatchRequestPayload("Renamed client 3", null, null, null));
+
+        assertEquals("Renamed client 3", client.name());
+        assertEquals(1, this.statistics.getEntityUpdateCount());
+        assertEquals(0, this.statistics.getEntityInsertCount());
+        assertEquals(0, this.statistics.getEntityDeleteCount());
+    }
+
+    @Test
+    void patchClient_shouldResolveTheCpfOnce_withinATransaction() {
+        String cpf = String.format("%011d", 3);
+
+        this.clientService.patchClient(cpf, new ClientPatchRequestPayload("Renamed client 3", null, null, null));
+        long firstPatch = this.statistics.getPrepareStatementCount();
+        this.clientService.patchClient(cpf, new ClientPatchRequestPayload("Renamed again", null, null, null));
+
+        // the client, the conflicts, its phones and addresses and the update, then the conflicts and the update only
+        assertEquals(5, firstPatch);
+        assertEquals(7, this.statistics.getPrepareStatementCount());
+        assertEquals(1, this.statistics.getNaturalIdQueryExecutionCount());
+        assertEquals(2, this.statistics.getEntityUpdateCount());
+    }
+
+    @Test
+    void updateClient_shouldNotQueryTheClient_whenItIsAlreadyLoaded() {
+        String cpf = String.format("%011d", 3);
+        this.clientRepository.loadByCpf(cpf).orElseThrow().getPhones().size();
+        this.statistics.clear();
+        var request = new ClientRequestPayload("Renamed client 3", cpf,
+                List.of(new PhoneRequestPayload("11988880003"), new PhoneRequestPayload("11977770003")),
+                List.of(new AddressRequestPayload("Main Street", null, "Goiânia", "Goiás", "74860405"),
+                        new AddressRequestPayload("Second Street", null, "Goiânia", "Goiás", "74860406")));
+
+        this.clientService.updateClient(cpf, request);
+
+        // the conflicts, the addresses and the client update
+        assertEquals(3, this.statistics.getPrepareStatementCount());
+        assertEquals(0, this.statistics.getNaturalIdQueryExecutionCount());
+    }
+
+    @Test
+    void deleteClient_shouldRunSingleStatement_andCascadeToPhonesAndAddresses() {
+        this.clientService.deleteClient(String.format("%011d", 3));
+
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+        assertEquals(CLIENTS - 1, this.clientRepository.count());
+        assertEquals(2 * (CLIENTS - 1), this.phoneRepository.count());
+        assertEquals(2 * (CLIENTS - 1), this.addressRepository.count());
+    }
+
+    @Test
+    void deleteClients_shouldRunTwoStatementsPerBatch() {
+        List<String> cpfs = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            cpfs.add(String.format("%011d", i));
+        }
+        cpfs.add("99999999999");
+
+        assertEquals(CLIENTS, this.clientService.deleteClients(cpfs));
+
+        assertEquals(2, this.statistics.getPrepareStatementCount());
+        assertEquals(0, this.clientRepository.count());
+        assertEquals(0, this.phoneRepository.count());
+        assertEquals(0, this.addressRepository.count());
+    }
+
+    private long inserts(boolean batch) {
+        Timer inserts = this.meterRegistry.find(StatementMetricsListener.STATEMENTS_METRIC)
+                .tag("type", "insert").tag("batch", String.valueOf(batch)).timer();
+        return inserts == null ? 0 : inserts.count();
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.totvs.customermanagement.service;
+
+import br.com.totvs.customermanagement.model.Address;
+import br.com.totvs.customermanagement.model.Client;
+import br.com.totvs.customermanagement.model.Phone;
+import br.com.totvs.customermanagement.payload.request.ClientSearchRequestPayload;
+import br.com.totvs.customermanagement.payload.response.ClientPageResponsePayload;
+import br.com.totvs.customermanagement.payload.response.ClientResponsePayload;
+import br.com.totvs.customermanagement.repository.ClientRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ClientService.class, ClientKeyFilterService.class})
+class ClientServiceSearchTest {
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        save("Matheus Pires", "00000000001", List.of("11988880001", "6233330001"), "Goiânia", "Goiás", "74860405");
+        save("Mateus Silva", "00000000002", List.of("11977770002"), "São Paulo", "São Paulo", "01001000");
+        save("Maria Souza", "00000000003", List.of("6233330003"), "Goiânia", "Goiás", "74000000");
+        save("100% Client", "00000000004", List.of("11966660004"), "Anápolis", "Goiás", "75000000");
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.clear();
+    }
+
+    @Test
+    void searchClients_shouldMatchNamePrefix_ignoringCase() {
+        ClientPageResponsePayload page = search(new ClientSearchRequestPayload("MAT", null, null, null, null));
+
+        assertEquals(List.of("Matheus Pires", "Mateus Silva"), names(page));
+        assertNull(page.next());
+        assertEquals(3, this.statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void searchClients_shouldMatchPhonePrefix_returningEachClientOnce() {
+        ClientPageResponsePayload page = search(new ClientSearchRequestPayload(null, "62", null, null, null));
+
+        assertEquals(List.of("Matheus Pires", "Maria Souza"), names(page));
+        assertEquals(2, page.clients().get(0).phones().size());
+    }
+
+    @Test
+    void searchClients_shouldMatchAllAddressCriteriaOnTheSameAddress() {
+        assertEquals(List.of("Matheus Pires", "Maria Souza"),
+                names(search(new ClientSearchRequestPayload(null, null, "goiânia", "GOIÁS", null))));
+        assertEquals(List.of("Maria Souza"),
+                names(search(new ClientSearchRequestPayload(null, null, null, null, "74000000"))));
+        assertEquals(List.of(),
+                names(search(new ClientSearchRequestPayload(null, null, "Anápolis", null, "74860405"))));
+    }
+
+    @Test
+    void searchClients_shouldCombineCriteria() {
+        assertEquals(List.of("Maria Souza"),
+                names(search(new ClientSearchRequestPayload("ma", "62", null, null, "74000000"))));
+    }
+
+    @Test
+    void searchClients_shouldTreatLikeWildcardsLiterally() {
+        assertEquals(List.of("100% Client"), names(search(new ClientSearchRequestPayload("100%", null, null, null, null))));
+        assertEquals(List.of(), names(search(new ClientSearchRequestPayload("%", null, null, null, null))));
+        assertEquals(List.of(), names(search(new ClientSearchRequestPayload("M_t", null, null, null, null))));
+    }
+
+    @Test
+    void searchClients_shouldPageByCpf() {
+        ClientSearchRequestPayload criteria = new ClientSearchRequestPayload(null, null, null, "Goiás", null);
+
+        ClientPageResponsePayload first = this.clientService.searchClients(criteria, null, 2);
+        ClientPageResponsePayload second = this.clientService.searchClients(criteria, first.next(), 2);
+
+        assertEquals(List.of("Matheus Pires", "Maria Souza"), names(first));
+        assertEquals("00000000003", first.next());
+        assertEquals(List.of("100% Client"), names(second));
+        assertNull(second.next());
+    }
+
+    private ClientPageResponsePayload search(ClientSearchRequestPayload criteria) {
+        return this.clientService.searchClients(criteria, null, ClientService.DEFAULT_PAGE_SIZE);
+    }
+
+    private static List<String> names(ClientPageResponsePayload page) {
+        return page.clients().stream().map(ClientResponsePayload::name).toList();
+    }
+
+    private void save(String name, String cpf, List<String> numbers, String city, String state, String zipCode) {
+        Client client = Client.builder().name(name).cpf(cpf).build();
+        numbers.forEach(number -> client.getPhones().add(Phone.builder().number(number).client(client).build()));
+        client.getAddresses().add(Address.builder().street("Main Street").city(city).state(state).zipCode(zipCode)
+                .client(client).build());
+        this.clientRepository.save(client);
+    }
+}
@@ -1,22 +1,31 @@
 package br.com.totvs.customermanagement.service;
 
+import br.com.totvs.customermanagement.exception.ClientNotFoundException;
 import br.com.totvs.customermanagement.exception.CpfAlreadyExistsException;
 import br.com.totvs.customermanagement.exception.CpfNotFoundException;
 import br.com.totvs.customermanagement.exception.InvalidCpfException;
+import br.com.totvs.customermanagement.exception.InvalidCursorException;
 import br.com.totvs.customermanagement.exception.NameAlreadyExistsException;
 import br.com.totvs.customermanagement.exception.PhoneNumberAlreadyExistsException;
 import br.com.totvs.customermanagement.model.Address;
 import br.com.totvs.customermanagement.model.Client;
 import br.com.totvs.customermanagement.model.Phone;
+import br.com.totvs.customermanagement.payload.request.ClientPatchRequestPayload;
 import br.com.totvs.customermanagement.payload.request.ClientRequestPayload;
+import br.com.totvs.customermanagement.payload.request.ClientSearchRequestPayload;
 import br.com.totvs.customermanagement.payload.request.PhoneRequestPayload;
+import br.com.totvs.customermanagement.payload.response.PhoneResponsePayload;
 import br.com.totvs.customermanagement.repository.AddressRepository;
 import br.com.totvs.customermanagement.repository.ClientRepository;
 import br.com.totvs.customermanagement.repository.PhoneRepository;
+import br.com.totvs.customermanagement.repository.projection.ClientAggregateRow;
+import br.com.totvs.customermanagement.repository.projection.ClientConflictRow;
 import br.com.totvs.customermanagement.util.NumberUtil;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -24,18 +33,29 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,11 +71,17 @@ class ClientServiceTest {
     @Mock
     private AddressRepository addressRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ClientKeyFilterService keyFilter;
+
     private ClientService clientService;
 
     @BeforeEach
     void setup() {
-        clientService = new ClientService(clientRepository, phoneRepository, addressRepository);
+        clientService = new ClientService(clientRepository, phoneRepository, addressRepository, eventPublisher, keyFilter);
     }
 
     @Test
@@ -72,6 +98,19 @@ class ClientServiceTest {
         assertTrue(thrown.getMessage().contains("12345678900"));
     }
 
+    @Test
+    void createClient_shouldThrowInvalidCpfException_whenCpfFormatted() {
+        ClientRequestPayload request = new ClientRequestPayload(
+                "Matheus Pires",
+                "123.456.789-09",
+                List.of(new PhoneRequestPayload("999999999")),
+                List.of()
+        );
+
+        assertThrows(InvalidCpfException.class, () -> clientService.createClient(request));
+        verifyNoInteractions(clientRepository);
+    }
+
     @Test
     void createClient_shouldThrowCpfAlreadyExistsException_whenCpfExists() {
         ClientRequestPayload request = new ClientRequestPayload(
@@ -81,7 +120,8 @@ class ClientServiceTest {
                 List.of()
         );
 
-        when(clientRepository.existsClientByCpf("11111111111")).thenReturn(true);
+        when(clientRepository.findConflicts("11111111111", "Matheus Pires", List.of("999999999")))
+                .thenReturn(List.of(conflict(ClientConflictRow.CPF, "11111111111", "11111111111")));
 
         try (MockedStatic<NumberUtil> mockedStatic = Mockito.mockStatic(NumberUtil.class)) {
             mockedStatic.when(() -> NumberUtil.isValidCpf("11111111111")).thenReturn(true);
@@ -102,8 +142,8 @@ class ClientServiceTest {
                 List.of()
         );
 
-        when(clientRepository.existsClientByName("ExistingName")).thenReturn(true);
-        when(clientRepository.existsClientByCpf("11111111111")).thenReturn(false);
+        when(clientRepository.findConflicts("11111111111", "ExistingName", List.of("999999999")))
+                .thenReturn(List.of(conflict(ClientConflictRow.NAME, "ExistingName", "22222222222")));
 
         try (MockedStatic<NumberUtil> mockedStatic = Mockito.mockStatic(NumberUtil.class)) {
             mockedStatic.when(() -> NumberUtil.isValidCpf("11111111111")).thenReturn(true);
@@ -124,9 +164,8 @@ class ClientServiceTest {
                 List.of()
         );
 
-        when(clientRepository.existsClientByCpf("11111111111")).thenReturn(false);
-        when(clientRepository.existsClientByName("NewName")).thenReturn(false);
-        when(phoneRepository.existsPhoneByNumber("999999999")).thenReturn(true);
+        when(clientRepository.findConflicts("11111111111", "NewName", List.of("999999999")))
+                .thenReturn(List.of(conflict(ClientConflictRow.PHONE, "999999999", "22222222222")));
 
         try (MockedStatic<NumberUtil> mockedStatic = Mockito.mockStatic(NumberUtil.class)) {
             mockedStatic.when(() -> NumberUtil.isValidCpf("11111111111")).thenReturn(true);
@@ -147,9 +186,6 @@ class ClientServiceTest {
                 List.of()
         );
 
-        when(clientRepository.existsClientByCpf("11111111111")).thenReturn(false);
-        when(clientRepository.existsClientByName("NewName")).thenReturn(false);
-        when(phoneRepository.existsPhoneByNumber(anyString())).thenReturn(false);
         Client savedClient = Client.builder().name("NewName").cpf("11111111111").build();
         when(clientRepository.save(any(Client.class))).thenReturn(savedClient);
 
@@ -163,21 +199,122 @@ class ClientServiceTest {
             assertEquals(1, response.phones().size());
             assertEquals("999999999", response.phones().get(0).number());
 
-            verify(clientRepository).save(any(Client.class));
-            verify(phoneRepository).saveAll(anyList());
-            verify(addressRepository).saveAll(anyList());
+            verify(clientRepository).save(argThat(client -> client.getPhones().size() == 1
+                    && client.getPhones().get(0).getClient() == client && client.getAddresses().isEmpty()));
+            verifyNoInteractions(phoneRepository, addressRepository);
+        }
+    }
+
+    @Test
+    void createClient_shouldReportAllConflicts() {
+        ClientRequestPayload request = new ClientRequestPayload(
+                "ExistingName",
+                "11111111111",
+                List.of(new PhoneRequestPayload("999999999")),
+                List.of()
+        );
+
+        when(clientRepository.findConflicts("11111111111", "ExistingName", List.of("999999999"))).thenReturn(List.of(
+                conflict(ClientConflictRow.PHONE, "999999999", "33333333333"),
+                conflict(ClientConflictRow.NAME, "ExistingName", "22222222222"),
+                conflict(ClientConflictRow.CPF, "11111111111", "11111111111")));
+
+        try (MockedStatic<NumberUtil> mockedStatic = Mockito.mockStatic(NumberUtil.class)) {
+            mockedStatic.when(() -> NumberUtil.isValidCpf("11111111111")).thenReturn(true);
+
+            CpfAlreadyExistsException ex = assertThrows(CpfAlreadyExistsException.class,
+                    () -> clientService.createClient(request));
+
+            assertEquals(2, ex.getSuppressed().length);
+            assertInstanceOf(NameAlreadyExistsException.class, ex.getSuppressed()[0]);
+            assertInstanceOf(PhoneNumberAlreadyExistsException.class, ex.getSuppressed()[1]);
+        }
+    }
+
+    @Test
+    void createClient_shouldTranslateUniqueConstraintViolation() {
+        ClientRequestPayload request = new ClientRequestPayload(
+                "NewName",
+                "11111111111",
+                List.of(new PhoneRequestPayload("999999999")),
+                List.of()
+        );
+
+        when(clientRepository.save(any(Client.class))).thenReturn(Client.builder().name("NewName").cpf("11111111111").build());
+        doThrow(new DataIntegrityViolationException("duplicate key", new ConstraintViolationException(
+                "duplicate key", new SQLException(), Client.NAME_UNIQUE_CONSTRAINT))).when(clientRepository).flush();
+
+        try (MockedStatic<NumberUtil> mockedStatic = Mockito.mockStatic(NumberUtil.class)) {
+            mockedStatic.when(() -> NumberUtil.isValidCpf("11111111111")).thenReturn(true);
+
+            assertThrows(NameAlreadyExistsException.class, () -> clientService.createClient(request));
         }
     }
 
+    @Test
+    void createClient_shouldReportTheDuplicatedNumber_whenThePhoneConstraintIsViolated() {
+        ClientRequestPayload request = new ClientRequestPayload(
+                "NewName",
+                "11111111111",
+                List.of(new PhoneRequestPayload("999999999"), new PhoneRequestPayload("999999998")),
+                List.of()
+        );
+        SQLException batch = new SQLException("Batch entry 0 insert into phones (client_id,number,id) values "
+                + "(('a'), ('999999999'), ('b')),(('a'), ('999999998'), ('c')) was aborted");
+        batch.setNextException(new SQLException("ERROR: duplicate key value violates unique constraint "
+                + "\"phones_number_key\"\n  Detail: Key (number)=(999999998) already exists."));
+
+        when(clientRepository.save(any(Client.class))).thenReturn(Client.builder().name("NewName").cpf("11111111111").build());
+        doThrow(new DataIntegrityViolationException("duplicate key", new ConstraintViolationException(
+                "duplicate key", batch, Phone.NUMBER_UNIQUE_CONSTRAINT))).when(clientRepository).flush();
+
+        try (MockedStatic<NumberUtil> mockedStatic = Mockito.mockStatic(NumberUtil.class)) {
+            mockedStatic.when(() -> NumberUtil.isValidCpf("11111111111")).thenReturn(true);
+
+            PhoneNumberAlreadyExistsException ex = assertThrows(PhoneNumberAlreadyExistsException.class,
+                    () -> clientService.createClient(request));
+            assertEquals("Phone number 999999998 is already registered", ex.getMessage());
+        }
+    }
+
+    @Test
+    void getClientByCpf_shouldThrowClientNotFoundException_whenClientDoesNotExist() {
+        when(clientRepository.findAggregateByCpf("11111111111")).thenReturn(List.of());
+
+        assertThrows(ClientNotFoundException.class, () -> clientService.getClientByCpf("11111111111"));
+    }
+
+    @Test
+    void getClientByCpf_shouldAssembleAggregateRows() {
+        ClientAggregateRow clientRow = mock(ClientAggregateRow.class);
+        when(clientRow.getKind()).thenReturn(ClientAggregateRow.CLIENT);
+        when(clientRow.getName()).thenReturn("Name");
+        ClientAggregateRow phoneRow = mock(ClientAggregateRow.class);
+        when(phoneRow.getKind()).thenReturn(ClientAggregateRow.PHONE);
+        when(phoneRow.getNumber()).thenReturn("999999999");
+        ClientAggregateRow addressRow = mock(ClientAggregateRow.class);
+        when(addressRow.getKind()).thenReturn(ClientAggregateRow.ADDRESS);
+        when(addressRow.getStreet()).thenReturn("Street");
+        when(clientRepository.findAggregateByCpf("11111111111")).thenReturn(List.of(phoneRow, clientRow, addressRow));
+
+        var client = clientService.getClientByCpf("11111111111");
+
+        assertEquals("Name", client.name());
+        assertEquals("11111111111", client.cpf());
+        assertEquals("999999999", client.phones().get(0).number());
+        assertEquals("Street", client.addresses().get(0).street());
+    }
+
     @Test
     void getAllClients_shouldReturnClients() {
-        Client client = Client.builder().name("Name").cpf("11111111111").build();
+        Client client = Client.builder().id(UUID.randomUUID()).name("Name").cpf("11111111111").build();
         Phone phone = Phone.builder().number("999999999").client(client).build();
         Address address = Address.builder().street("Street").city("City").state("State").zipCode("12345").client(client).build();
 
-        when(clientRepository.findAll()).thenReturn(List.of(client));
-        when(phoneRepository.findByClient(client)).thenReturn(List.of(phone));
-        when(addressRepository.findByClient(client)).thenReturn(List.of(address));
+        when(clientRepository.findByCpfGreaterThanOrderByCpfAsc("", Limit.of(ClientService.MAX_PAGE_SIZE + 1)))
+                .thenReturn(List.of(client));
+        when(phoneRepository.findByClientIn(List.of(client))).thenReturn(List.of(phone));
+        when(addressRepository.findByClientIn(List.of(client))).thenReturn(List.of(address));
 
         var clients = clientService.getAllClients();
 
@@ -191,9 +328,47 @@ class ClientServiceTest {
         assertEquals("Street", c.addresses().get(0).street());
     }
 
+    @Test
+    void getClientsPage_shouldReturnNextCursor_whenMoreClientsExist() {
+        Client first = Client.builder().id(UUID.randomUUID()).name("First Name").cpf("11111111111").build();
+        Client second = Client.builder().id(UUID.randomUUID()).name("Second Name").cpf("22222222222").build();
+
+        when(clientRepository.findByCpfGreaterThanOrderByCpfAsc("", Limit.of(2))).thenReturn(List.of(first, second));
+        when(phoneRepository.findByClientIn(List.of(first))).thenReturn(List.of());
+        when(addressRepository.findByClientIn(List.of(first))).thenReturn(List.of());
+
+        var page = clientService.getClientsPage(null, 1);
+
+        assertEquals(1, page.clients().size());
+        assertEquals("11111111111", page.clients().get(0).cpf());
+        assertEquals("11111111111", page.next());
+    }
+
+    @Test
+    void getClientsPage_shouldReturnNullCursor_whenLastPage() {
+        Client client = Client.builder().id(UUID.randomUUID()).name("Name").cpf("22222222222").build();
+
+        when(clientRepository.findByCpfGreaterThanOrderByCpfAsc("11111111111", Limit.of(3))).thenReturn(List.of(client));
+        when(phoneRepository.findByClientIn(List.of(client))).thenReturn(List.of());
+        when(addressRepository.findByClientIn(List.of(client))).thenReturn(List.of());
+
+        var page = clientService.getClientsPage("11111111111", 2);
+
+        assertEquals(1, page.clients().size());
+        assertNull(page.next());
+    }
+
+    @Test
+    void getClientsPage_shouldThrowInvalidCursorException_whenCursorIsNotACpf() {
+        assertThrows(InvalidCursorException.class, () -> clientService.getClientsPage("111.111.111-11", 2));
+        assertThrows(InvalidCursorException.class,
+                () -> clientService.searchClients(new ClientSearchRequestPayload("Name", null, null, null, null), "abc", 2));
+        verifyNoInteractions(clientRepository);
+    }
+
     @Test
     void updateClient_shouldThrowCpfNotFoundException_whenClientDoesNotExist() {
-        when(clientRepository.findByCpf("11111111111")).thenReturn(Optional.empty());
+        when(clientRepository.loadByCpf("11111111111")).thenReturn(Optional.empty());
 
         ClientRequestPayload request = new ClientRequestPayload("NewName", "11111111111", List.of(), List.of());
 
@@ -203,16 +378,15 @@ class ClientServiceTest {
     @Test
     void updateClient_shouldUpdateSuccessfully() {
         Client existingClient = Client.builder().name("OldName").cpf("11111111111").build();
-        when(clientRepository.findByCpf("11111111111")).thenReturn(Optional.of(existingClient));
-        when(clientRepository.findNameByCpf("11111111111")).thenReturn(Optional.of("OldName"));
-        when(clientRepository.existsClientByName("NewName")).thenReturn(false);
-        when(phoneRepository.existsPhoneByNumber(anyString())).thenReturn(false);
-        when(clientRepository.save(any(Client.class))).thenReturn(existingClient);
+        Phone keptPhone = Phone.builder().number("888888888").client(existingClient).build();
+        Phone changedPhone = Phone.builder().number("777777777").client(existingClient).build();
+        existingClient.getPhones().addAll(List.of(keptPhone, changedPhone));
+        when(clientRepository.loadByCpf("11111111111")).thenReturn(Optional.of(existingClient));
 
         ClientRequestPayload request = new ClientRequestPayload(
                 "NewName",
                 "11111111111",
-                List.of(new PhoneRequestPayload("999999999")),
+                List.of(new PhoneRequestPayload("888888888"), new PhoneRequestPayload("999999999")),
                 List.of()
         );
 
@@ -220,31 +394,152 @@ class ClientServiceTest {
 
         assertEquals("NewName", response.name());
         assertEquals("11111111111", response.cpf());
-        assertEquals(1, response.phones().size());
+        assertEquals(List.of("888888888", "999999999"), response.phones().stream().map(PhoneResponsePayload::number).toList());
+        assertSame(keptPhone, existingClient.getPhones().get(0));
+        assertSame(changedPhone, existingClient.getPhones().get(1));
+
+        verify(phoneRepository, never()).deleteAllByClient(any());
+        verify(addressRepository, never()).deleteAllByClient(any());
+        verify(clientRepository).flush();
+    }
+
+    @Test
+    void updateClient_shouldInsertAndRemoveUnmatchedItems() {
+        Client existingClient = Client.builder().name("OldName").cpf("11111111111").build();
+        Address address = Address.builder().street("Rua A").city("Cidade").state("SP").zipCode("12345678").client(existingClient).build();
+        existingClient.getAddresses().add(address);
+        existingClient.getPhones().add(Phone.builder().number("888888888").client(existingClient).build());
+        when(clientRepository.loadByCpf("11111111111")).thenReturn(Optional.of(existingClient));
+
+        ClientRequestPayload request = new ClientRequestPayload(
+                "OldName",
+                "11111111111",
+                List.of(new PhoneRequestPayload("888888888"), new PhoneRequestPayload("999999999")),
+                List.of()
+        );
+
+        clientService.updateClient("11111111111", request);
+
+        assertEquals(2, existingClient.getPhones().size());
+        assertSame(existingClient, existingClient.getPhones().get(1).getClient());
+        assertTrue(existingClient.getAddresses().isEmpty());
+    }
+
+    @Test
+    void patchClient_shouldOnlyChangePresentFields() {
+        Client existingClient = Client.builder().name("OldName").cpf("11111111111").build();
+        Phone phone = Phone.builder().number("888888888").client(existingClient).build();
+        existingClient.getPhones().add(phone);
+        when(clientRepository.loadByCpf("11111111111")).thenReturn(Optional.of(existingClient));
+
+        var response = clientService.patchClient("11111111111",
+                new ClientPatchRequestPayload("NewName", null, null, null));
+
+        assertEquals("NewName", response.name());
+        assertEquals("11111111111", response.cpf());
+        assertEquals(List.of(phone), existingClient.getPhones());
+        verify(clientRepository).findConflicts("11111111111", "NewName", List.of());
+    }
+
+    @Test
+    void patchClient_shouldMergePresentCollections() {
+        Client existingClient = Client.builder().name("OldName").cpf("11111111111").build();
+        existingClient.getPhones().add(Phone.builder().number("888888888").client(existingClient).build());
+        when(clientRepository.loadByCpf("11111111111")).thenReturn(Optional.of(existingClient));
+
+        var response = clientService.patchClient("11111111111",
+                new ClientPatchRequestPayload(null, null, List.of(new PhoneRequestPayload("999999999")), null));
+
+        assertEquals("OldName", response.name());
         assertEquals("999999999", response.phones().get(0).number());
+        assertEquals(1, existingClient.getPhones().size());
+    }
+
+    @Test
+    void patchClient_shouldThrowCpfNotFoundException_whenClientDoesNotExist() {
+        when(clientRepository.loadByCpf("11111111111")).thenReturn(Optional.empty());
+
+        assertThrows(CpfNotFoundException.class, () -> clientService.patchClient("11111111111",
+                new ClientPatchRequestPayload("NewName", null, null, null)));
+    }
+
+    @Test
+    void updateClient_shouldIgnoreValuesOwnedByTheUpdatedClient() {
+        Client existingClient = Client.builder().name("OldName").cpf("11111111111").build();
+        when(clientRepository.loadByCpf("11111111111")).thenReturn(Optional.of(existingClient));
+        when(clientRepository.findConflicts("11111111111", "OldName", List.of("999999999"))).thenReturn(List.of(
+                conflict(ClientConflictRow.CPF, "11111111111", "11111111111"),
+                conflict(ClientConflictRow.NAME, "OldName", "11111111111"),
+                conflict(ClientConflictRow.PHONE, "999999999", "11111111111")));
+
+        ClientRequestPayload request = new ClientRequestPayload(
+                "OldName",
+                "11111111111",
+                List.of(new PhoneRequestPayload("999999999")),
+                List.of()
+        );
 
-        verify(phoneRepository, times(2)).deleteAllByClient(existingClient);
-        verify(phoneRepository).saveAll(anyList());
-        verify(addressRepository).deleteAllByClient(existingClient);
-        verify(addressRepository).saveAll(anyList());
+        assertEquals("OldName", clientService.updateClient("11111111111", request).name());
     }
 
     @Test
     void deleteClient_shouldThrowCpfNotFoundException_whenClientNotFound() {
-        when(clientRepository.findByCpf("11111111111")).thenReturn(Optional.empty());
+        when(clientRepository.deleteByCpf("11111111111")).thenReturn(0);
 
         assertThrows(CpfNotFoundException.class, () -> clientService.deleteClient("11111111111"));
     }
 
     @Test
     void deleteClient_shouldDeleteSuccessfully() {
-        Client client = Client.builder().name("Name").cpf("11111111111").build();
-        when(clientRepository.findByCpf("11111111111")).thenReturn(Optional.of(client));
+        when(clientRepository.deleteByCpf("11111111111")).thenReturn(1);
 
         clientService.deleteClient("11111111111");
 
-        verify(phoneRepository).deleteAllByClient(client);
-        verify(addressRepository).deleteAllByClient(client);
-        verify(clientRepository).delete(client);
+        verify(clientRepository).deleteByCpf("11111111111");
+        verify(eventPublisher).publishEvent(ClientChangedEvent.deleted("11111111111"));
+        verifyNoInteractions(phoneRepository, addressRepository);
+    }
+
+    @Test
+    void deleteClients_shouldDeleteDistinctCpfsInBatches() {
+        List<String> cpfs = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            cpfs.add(String.format("%011d", i));
+        }
+        cpfs.add(cpfs.get(0));
+        // The last CPF of every batch has no client
+        when(clientRepository.findExistingCpfs(anyCollection())).thenAnswer(invocation -> {
+            List<String> batch = List.copyOf(invocation.<Collection<String>>getArgument(0));
+            return batch.subList(0, batch.size() - 1);
+        });
+        when(clientRepository.deleteByCpfIn(anyCollection())).thenAnswer(invocation ->
+                invocation.<Collection<String>>getArgument(0).size());
+
+        assertEquals(2497, clientService.deleteClients(cpfs));
+
+        ArgumentCaptor<Collection<String>> batches = ArgumentCaptor.captor();
+        verify(clientRepository, times(3)).deleteByCpfIn(batches.capture());
+        assertEquals(List.of(999, 999, 499), batches.getAllValues().stream().map(Collection::size).toList());
+        verify(eventPublisher, times(2497)).publishEvent(any(ClientChangedEvent.class));
+        verify(eventPublisher, never()).publishEvent(ClientChangedEvent.deleted("00000000999"));
+    }
+
+    private static ClientConflictRow conflict(String kind, String value, String ownerCpf) {
+        return new ClientConflictRow() {
+            @Override
+            public String getKind() {
+                return kind;
+            }
+
+            @Override
+            public String getConflictingValue() {
+                return value;
+            }
+
+            @Override
+            public String getOwnerCpf() {
+                return ownerCpf;
+            }
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,95 @@
+package br.com.totvs.customermanagement.service;
+
+import br.com.totvs.customermanagement.ClientFixtures;
+import br.com.totvs.customermanagement.config.CacheConfig;
+import br.com.totvs.customermanagement.payload.request.ClientPatchRequestPayload;
+import br.com.totvs.customermanagement.repository.ClientRepository;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the persistence path on virtual threads with fewer pooled connections than callers, so callers park
+ * while waiting for a connection, and fails if any of them parks while pinned to its carrier thread.
+ */
+@ActiveProfiles("test")
+@DataJpaTest(properties = "spring.datasource.hikari.maximum-pool-size=2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ClientService.class, ClientKeyFilterService.class, CacheConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ClientServiceVirtualThreadTest {
+
+    private static final int CALLERS = 50;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @AfterEach
+    void cleanup() {
+        this.clientRepository.deleteAll();
+    }
+
+    @Test
+    void serviceCalls_shouldNotPinVirtualThreads() throws Exception {
+        List<RecordedEvent> pinnedEvents = new CopyOnWriteArrayList<>();
+
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", pinnedEvents::add);
+            recording.startAsync();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> calls = new ArrayList<>();
+                for (int i = 0; i < CALLERS; i++) {
+                    int index = i;
+                    calls.add(executor.submit(() -> {
+                        String cpf = ClientFixtures.cpf(index + 1);
+                        this.clientService.createClient(ClientFixtures.request(index,
+                                String.format("11900000%03d", index)));
+                        this.clientService.getClientByCpf(cpf);
+                        this.clientService.getClientsPage(null, 10);
+                        this.clientService.patchClient(cpf, new ClientPatchRequestPayload(
+                                String.format("Renamed client %03d", index), null, null, null));
+                        return null;
+                    }));
+                }
+                for (Future<?> call : calls) {
+                    call.get();
+                }
+            }
+            recording.stop();
+        }
+
+        assertEquals(CALLERS, this.clientRepository.count());
+        assertTrue(pinnedEvents.isEmpty(), () -> "Virtual threads were pinned at:\n" + pinnedEvents.stream()
+                .map(event -> event.getStackTrace().getFrames().stream()
+                        .limit(12)
+                        .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                                + ":" + frame.getLineNumber())
+                        .collect(Collectors.joining("\n  ")))
+                .distinct()
+                .collect(Collectors.joining("\n\n")));
+    }
+}
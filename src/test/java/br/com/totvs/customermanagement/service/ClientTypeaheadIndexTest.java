@@ -0,0 +1,86 @@
+package br.com.totvs.customermanagement.service;
+
+import br.com.totvs.customermanagement.payload.response.ClientSuggestionPayload;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientTypeaheadIndexTest {
+
+    private ClientTypeaheadIndex index;
+
+    @BeforeEach
+    void setup() {
+        this.index = new ClientTypeaheadIndex();
+        this.index.load("00000000001", "José Álvares Pires", List.of("11988880001", "11988880002"));
+        this.index.load("00000000002", "Joana  Souza", List.of("6233330002"));
+        this.index.load("00000000003", "Matheus Pires", List.of());
+        this.index.finishLoading();
+    }
+
+    @Test
+    void suggest_shouldMatchTheBeginningOfAnyNameWord_ignoringAccentsAndCase() {
+        assertEquals(List.of(suggestion("Joana  Souza", "00000000002"), suggestion("José Álvares Pires", "00000000001")),
+                this.index.suggest("jo", 10));
+        assertEquals(List.of(suggestion("José Álvares Pires", "00000000001")), this.index.suggest("JOSÉ alv", 10));
+        assertEquals(List.of(suggestion("José Álvares Pires", "00000000001"), suggestion("Matheus Pires", "00000000003")),
+                this.index.suggest("pir", 10));
+        assertEquals(List.of(), this.index.suggest("ires", 10));
+        assertEquals(List.of(), this.index.suggest("  ", 10));
+    }
+
+    @Test
+    void suggest_shouldMatchPhonePrefixes_ignoringPunctuation_andSuggestEachClientOnce() {
+        assertEquals(List.of(suggestion("José Álvares Pires", "00000000001")), this.index.suggest("(11) 9888-8", 10));
+        assertEquals(List.of(suggestion("Joana  Souza", "00000000002")), this.index.suggest("62", 10));
+    }
+
+    @Test
+    void suggest_shouldStopAtTheLimit() {
+        assertEquals(List.of(suggestion("José Álvares Pires", "00000000001")), this.index.suggest("pires", 1));
+        assertEquals(List.of(), this.index.suggest("pires", 0));
+    }
+
+    @Test
+    void put_shouldReplaceTheIndexedNamePhonesAndCpf() {
+        this.index.put("00000000001", "00000000009", "Josué Lima", List.of("11977770009"));
+
+        assertEquals(List.of(suggestion("Joana  Souza", "00000000002"), suggestion("Josué Lima", "00000000009")),
+                this.index.suggest("jo", 10));
+        assertEquals(List.of(suggestion("Matheus Pires", "00000000003")), this.index.suggest("pires", 10));
+        assertEquals(List.of(), this.index.suggest("1198888", 10));
+        assertEquals(3, this.index.size());
+    }
+
+    @Test
+    void remove_shouldDropEveryKeyOfTheClient() {
+        this.index.remove("00000000001");
+
+        assertEquals(List.of(suggestion("Matheus Pires", "00000000003")), this.index.suggest("pires", 10));
+        assertEquals(List.of(), this.index.suggest("11", 10));
+        assertEquals(2, this.index.size());
+    }
+
+    @Test
+    void load_shouldIgnoreClientsChangedSinceTheLoadStarted() {
+        ClientTypeaheadIndex loading = new ClientTypeaheadIndex();
+        loading.put(null, "00000000001", "Renamed Client", List.of());
+        loading.remove("00000000002");
+
+        loading.load("00000000001", "José Álvares Pires", List.of("11988880001"));
+        loading.load("00000000002", "Joana Souza", List.of("6233330002"));
+        loading.load("00000000003", "Matheus Pires", List.of());
+        loading.finishLoading();
+
+        assertEquals(List.of(suggestion("Renamed Client", "00000000001")), loading.suggest("ren", 10));
+        assertEquals(List.of(suggestion("Matheus Pires", "00000000003")), loading.suggest("pires", 10));
+        assertEquals(List.of(), loading.suggest("jo", 10));
+    }
+
+    private static ClientSuggestionPayload suggestion(String name, String cpf) {
+        return new ClientSuggestionPayload(name, cpf);
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.totvs.customermanagement.service;
+
+import br.com.totvs.customermanagement.payload.request.ClientPatchRequestPayload;
+import br.com.totvs.customermanagement.payload.response.ClientSuggestionPayload;
+import br.com.totvs.customermanagement.repository.ClientRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static br.com.totvs.customermanagement.ClientFixtures.cpf;
+import static br.com.totvs.customermanagement.ClientFixtures.request;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@DataJpaTest(properties = {"spring.jpa.properties.hibernate.generate_statistics=true",
+        "totvs.typeahead.load-parallelism=3"})
+@Import({ClientService.class, ClientKeyFilterService.class, ClientTypeaheadService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ClientTypeaheadServiceTest {
+
+    @Autowired
+    private ClientTypeaheadService typeaheadService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void cleanup() {
+        this.clientRepository.deleteAll();
+    }
+
+    @Test
+    void suggestClients_shouldQueryTheDatabase_untilTheIndexIsLoaded() {
+        ClientTypeaheadService notLoaded = new ClientTypeaheadService(this.clientRepository, this.clientService,
+                this.transactionManager, false, 1);
+        this.clientService.createClient(request("Matheus Pires", cpf(1), "11900000001"));
+
+        assertFalse(notLoaded.isIndexLoaded());
+        assertEquals(List.of(new ClientSuggestionPayload("Matheus Pires", cpf(1))), notLoaded.suggestClients("mat", 10));
+        assertEquals(List.of(new ClientSuggestionPayload("Matheus Pires", cpf(1))),
+                notLoaded.suggestClients("(11) 9000", 10));
+    }
+
+    @Test
+    void loadIndex_shouldReadEveryCpfRange_andServeSuggestionsWithoutQueries() {
+        for (int digit = 0; digit <= 9; digit++) {
+            this.clientService.createClient(request("Client " + digit + " Typeahead", cpf(digit * 100_000_000 + 1),
+                    "1190000000" + digit));
+        }
+
+        this.typeaheadService.loadIndex().join();
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<ClientSuggestionPayload> suggestions = this.typeaheadService.suggestClients("typea", 50);
+        assertEquals(10, suggestions.size());
+        assertEquals(List.of(new ClientSuggestionPayload("Client 7 Typeahead", cpf(700_000_001))),
+                this.typeaheadService.suggestClients("11900000007", 10));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void suggestClients_shouldFollowCommittedChanges_only() {
+        this.clientService.createClient(request("Matheus Pires", cpf(1), "11900000001"));
+        this.typeaheadService.loadIndex().join();
+
+        this.clientService.createClient(request("Maria Souza", cpf(2), "11900000002"));
+        this.clientService.patchClient(cpf(1), new ClientPatchRequestPayload("Mateus Pires", cpf(3), null, null));
+        new TransactionTemplate(this.transactionManager).executeWithoutResult(status -> {
+            this.clientService.patchClient(cpf(2), new ClientPatchRequestPayload("Rolled Back", null, null, null));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(List.of(new ClientSuggestionPayload("Maria Souza", cpf(2)),
+                new ClientSuggestionPayload("Mateus Pires", cpf(3))), this.typeaheadService.suggestClients("ma", 10));
+        assertEquals(List.of(), this.typeaheadService.suggestClients("rolled", 10));
+
+        this.clientService.deleteClient(cpf(2));
+        assertEquals(List.of(new ClientSuggestionPayload("Mateus Pires", cpf(3))),
+                this.typeaheadService.suggestClients("ma", 10));
+    }
+}
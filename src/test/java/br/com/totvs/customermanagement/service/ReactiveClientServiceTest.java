@@ -0,0 +1,258 @@
+package br.com.totvs.customermanagement.service;
+
+import br.com.totvs.customermanagement.config.CacheConfig;
+import br.com.totvs.customermanagement.exception.ClientNotFoundException;
+import br.com.totvs.customermanagement.exception.CpfAlreadyExistsException;
+import br.com.totvs.customermanagement.exception.CpfNotFoundException;
+import br.com.totvs.customermanagement.exception.InvalidCpfException;
+import br.com.totvs.customermanagement.exception.InvalidCursorException;
+import br.com.totvs.customermanagement.exception.NameAlreadyExistsException;
+import br.com.totvs.customermanagement.exception.PhoneNumberAlreadyExistsException;
+import br.com.totvs.customermanagement.model.Client;
+import br.com.totvs.customermanagement.payload.request.ClientPatchRequestPayload;
+import br.com.totvs.customermanagement.payload.request.ClientRequestPayload;
+import br.com.totvs.customermanagement.payload.request.PhoneRequestPayload;
+import br.com.totvs.customermanagement.payload.response.ClientResponsePayload;
+import br.com.totvs.customermanagement.payload.response.PhoneResponsePayload;
+import br.com.totvs.customermanagement.repository.ClientRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static br.com.totvs.customermanagement.ClientFixtures.address;
+import static br.com.totvs.customermanagement.ClientFixtures.cpf;
+import static br.com.totvs.customermanagement.ClientFixtures.name;
+import static br.com.totvs.customermanagement.ClientFixtures.request;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "totvs.cache.entities.enabled=true")
+class ReactiveClientServiceTest {
+
+    @Autowired
+    private ReactiveClientService reactiveClientService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void cleanup() {
+        this.clientRepository.deleteAll();
+        this.cacheManager.getCache(CacheConfig.CLIENTS_CACHE).clear();
+    }
+
+    @Test
+    void createClient_shouldBeReadableByBothServices() {
+        ClientRequestPayload request = request(0, "11900000000");
+
+        StepVerifier.create(this.reactiveClientService.createClient(request))
+                .assertNext(client -> assertEquals(request.cpf(), client.cpf()))
+                .verifyComplete();
+
+        StepVerifier.create(this.reactiveClientService.getClientByCpf(request.cpf()))
+                .assertNext(client -> {
+                    assertEquals(request.name(), client.name());
+                    assertEquals(List.of(new PhoneResponsePayload("11900000000")), client.phones());
+                    assertEquals(1, client.addresses().size());
+                })
+                .verifyComplete();
+        assertEquals(request.name(), this.clientService.getClientByCpf(request.cpf()).name());
+    }
+
+    @Test
+    void createClient_shouldRejectInvalidCpf() {
+        ClientRequestPayload request = new ClientRequestPayload("Invalid client", "12345678900",
+                List.of(new PhoneRequestPayload("11900000000")), List.of(address("Main Street")));
+
+        StepVerifier.create(this.reactiveClientService.createClient(request))
+                .verifyError(InvalidCpfException.class);
+        assertEquals(0, this.clientRepository.count());
+    }
+
+    @Test
+    void createClient_shouldReportEveryConflict_likeTheBlockingService() {
+        ClientRequestPayload existing = request(0, "11900000000");
+        this.clientService.createClient(existing);
+
+        StepVerifier.create(this.reactiveClientService.createClient(existing))
+                .expectErrorSatisfies(error -> {
+                    assertInstanceOf(CpfAlreadyExistsException.class, error);
+                    assertEquals(2, error.getSuppressed().length);
+                    assertInstanceOf(NameAlreadyExistsException.class, error.getSuppressed()[0]);
+                })
+                .verify();
+        assertEquals(1, this.clientRepository.count());
+    }
+
+    @Test
+    void createClient_shouldTranslateUniqueConstraintViolations_intoTheDuplicatedNumber() {
+        ClientRequestPayload request = new ClientRequestPayload(name(0), cpf(1),
+                List.of(new PhoneRequestPayload("11900000001"), new PhoneRequestPayload("11900000000"),
+                        new PhoneRequestPayload("11900000000")),
+                List.of(address("Main Street")));
+
+        StepVerifier.create(this.reactiveClientService.createClient(request))
+                .expectErrorSatisfies(error -> {
+                    assertInstanceOf(PhoneNumberAlreadyExistsException.class, error);
+                    assertEquals("Phone number 11900000000 is already registered", error.getMessage());
+                })
+                .verify();
+        PhoneNumberAlreadyExistsException blocking = assertThrows(PhoneNumberAlreadyExistsException.class,
+                () -> this.clientService.createClient(request));
+        assertEquals("Phone number 11900000000 is already registered", blocking.getMessage());
+        assertEquals(0, this.clientRepository.count());
+    }
+
+    @Test
+    void updateClient_shouldMergePhones_andEvictTheCachedClient() {
+        ClientRequestPayload created = new ClientRequestPayload(name(0), cpf(1),
+                List.of(new PhoneRequestPayload("11900000000"), new PhoneRequestPayload("11900000001")),
+                List.of(address("Main Street")));
+        this.clientService.createClient(created);
+        this.clientService.getClientByCpf(cpf(1));
+
+        ClientRequestPayload update = new ClientRequestPayload("Renamed client", cpf(1),
+                List.of(new PhoneRequestPayload("11900000001"), new PhoneRequestPayload("11900000002")),
+                List.of(address("Main Street")));
+        StepVerifier.create(this.reactiveClientService.updateClient(cpf(1), update))
+                .assertNext(client -> assertEquals("Renamed client", client.name()))
+                .verifyComplete();
+
+        ClientResponsePayload client = this.clientService.getClientByCpf(cpf(1));
+        assertEquals("Renamed client", client.name());
+        assertEquals(List.of("11900000001", "11900000002"),
+                client.phones().stream().map(PhoneResponsePayload::number).sorted().toList());
+    }
+
+    @Test
+    void patchClient_shouldOnlyChangePresentFields() {
+        this.clientService.createClient(request(0, "11900000000"));
+
+        StepVerifier.create(this.reactiveClientService.patchClient(cpf(1), new ClientPatchRequestPayload(
+                        null, cpf(2), null, List.of(address("Second Street")))))
+                .assertNext(client -> {
+                    assertEquals(name(0), client.name());
+                    assertEquals(cpf(2), client.cpf());
+                    assertEquals(List.of(new PhoneResponsePayload("11900000000")), client.phones());
+                    assertEquals("Second Street", client.addresses().get(0).street());
+                })
+                .verifyComplete();
+        StepVerifier.create(this.reactiveClientService.getClientByCpf(cpf(1)))
+                .verifyError(ClientNotFoundException.class);
+    }
+
+    @Test
+    void streamClients_shouldEmitClientsInCpfOrder_onDemand() {
+        for (int i = 0; i < 5; i++) {
+            this.clientService.createClient(request(i, String.format("1190000000%d", i)));
+        }
+        List<String> cpfs = this.clientRepository.findAll().stream().map(Client::getCpf).sorted().toList();
+
+        StepVerifier.create(this.reactiveClientService.streamClients(2), 1)
+                .assertNext(client -> assertEquals(cpfs.get(0), client.cpf()))
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextCount(3)
+                .assertNext(client -> assertEquals(cpfs.get(4), client.cpf()))
+                .verifyComplete();
+    }
+
+    @Test
+    void getClientsPage_shouldFail_whenCursorIsNotACpf() {
+        StepVerifier.create(this.reactiveClientService.getClientsPage("111.111.111-11", 2))
+                .verifyError(InvalidCursorException.class);
+    }
+
+    @Test
+    void deleteClient_shouldRemoveClient_andFailForUnknownCpf() {
+        this.clientService.createClient(request(0, "11900000000"));
+
+        StepVerifier.create(this.reactiveClientService.deleteClient(cpf(1))).verifyComplete();
+        assertEquals(0, this.clientRepository.count());
+
+        StepVerifier.create(this.reactiveClientService.deleteClient(cpf(1)))
+                .verifyError(CpfNotFoundException.class);
+    }
+
+    @Test
+    void mutations_shouldWriteTheOutboxInTheirTransactions() {
+        long lastChange = this.jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM client_changes", Long.class);
+        ClientRequestPayload request = request(0, "11900000000");
+
+        StepVerifier.create(this.reactiveClientService.createClient(request)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(this.reactiveClientService.createClient(request))
+                .verifyError(CpfAlreadyExistsException.class);
+        StepVerifier.create(this.reactiveClientService.deleteClient(cpf(1))).verifyComplete();
+
+        List<String> previousCpfs = this.jdbcTemplate.queryForList(
+                "SELECT previous_cpf FROM client_changes WHERE id > ? ORDER BY id", String.class, lastChange);
+        assertEquals(Arrays.asList(null, cpf(1)), previousCpfs);
+    }
+
+    @Test
+    void mutations_shouldEvictOnlyTheChangedClient_fromTheEntityCache() {
+        this.clientService.createClient(request(0, "11900000000"));
+        this.clientService.createClient(request(1, "11900000001"));
+        UUID changed = this.clientRepository.findByCpf(cpf(1)).orElseThrow().getId();
+        UUID kept = this.clientRepository.findByCpf(cpf(2)).orElseThrow().getId();
+        assertEquals(name(0) + " 11900000000 Main Street", loadByCpf(cpf(1)));
+        assertEquals(name(1) + " 11900000001 Main Street", loadByCpf(cpf(2)));
+        Cache cache = this.entityManagerFactory.unwrap(SessionFactory.class).getCache();
+
+        StepVerifier.create(this.reactiveClientService.patchClient(cpf(1), new ClientPatchRequestPayload(
+                        "Renamed client", cpf(3), List.of(new PhoneRequestPayload("11900000002")), null)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertFalse(cache.containsEntity(Client.class, changed));
+        assertFalse(cache.containsCollection(Client.PHONES_ROLE, changed));
+        assertTrue(cache.containsEntity(Client.class, kept));
+        assertTrue(cache.containsCollection(Client.PHONES_ROLE, kept));
+        assertNull(loadByCpf(cpf(1)));
+        assertEquals("Renamed client 11900000002 Main Street", loadByCpf(cpf(3)));
+
+        StepVerifier.create(this.reactiveClientService.deleteClient(cpf(2))).verifyComplete();
+
+        assertFalse(cache.containsEntity(Client.class, kept));
+        assertFalse(cache.containsCollection(Client.ADDRESSES_ROLE, kept));
+        assertNull(loadByCpf(cpf(2)));
+    }
+
+    /**
+     * Loads a client through the natural id cache, as the blocking service does, caching its entity and collections.
+     */
+    private String loadByCpf(String cpf) {
+        try (EntityManager entityManager = this.entityManagerFactory.createEntityManager()) {
+            Client client = entityManager.unwrap(Session.class).bySimpleNaturalId(Client.class).load(cpf);
+            return client == null ? null : client.getName() + " " + client.getPhones().get(0).getNumber() + " "
+                    + client.getAddresses().get(0).getStreet();
+        }
+    }
+}
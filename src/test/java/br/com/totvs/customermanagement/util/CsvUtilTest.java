@@ -0,0 +1,26 @@
+package br.com.totvs.customermanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvUtilTest {
+
+    @Test
+    void parseLine() {
+        assertEquals(List.of("Matheus Pires", "12345678909", ""), CsvUtil.parseLine("Matheus Pires,12345678909,"));
+    }
+
+    @Test
+    void parseLineWithQuotedFields() {
+        assertEquals(List.of("Main Street, 123", "Apartment \"4B\""),
+                CsvUtil.parseLine("\"Main Street, 123\",\"Apartment \"\"4B\"\"\""));
+    }
+
+    @Test
+    void parseLineWithUnterminatedQuote() {
+        assertThrows(IllegalArgumentException.class, () -> CsvUtil.parseLine("\"Main Street"));
+    }
+}
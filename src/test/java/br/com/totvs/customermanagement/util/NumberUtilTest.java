@@ -2,6 +2,8 @@ package br.com.totvs.customermanagement.util;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class NumberUtilTest {
@@ -33,4 +35,58 @@ class NumberUtilTest {
         assertFalse(NumberUtil.isValidCpf(null));
         assertFalse(NumberUtil.isValidCpf(""));
     }
-}
\ No newline at end of file
+
+    @Test
+    void isValidCpf_shouldIgnoreFormattingCharacters() {
+        assertTrue(NumberUtil.isValidCpf(" 123 456 789/09 "));
+        assertTrue(NumberUtil.isValidCpf(new StringBuilder("123.456.789-09")));
+        assertFalse(NumberUtil.isValidCpf("123.456.789-09-1"));
+        assertFalse(NumberUtil.isValidCpf("111.111.111-11"));
+    }
+
+    @Test
+    void isValidCpf_shouldOnlyAcceptAsciiDigits() {
+        assertFalse(NumberUtil.isValidCpf("١٢٣٤٥٦٧٨٩٠٩"));
+    }
+
+    @Test
+    void isValidAsciiCpf_shouldValidateAsciiBytes() {
+        byte[] line = "Client,123.456.789-09,x".getBytes(StandardCharsets.US_ASCII);
+
+        assertTrue(NumberUtil.isValidAsciiCpf("12345678909".getBytes(StandardCharsets.US_ASCII)));
+        assertTrue(NumberUtil.isValidAsciiCpf(line, 7, 14));
+        assertFalse(NumberUtil.isValidAsciiCpf(line, 7, 13));
+        assertFalse(NumberUtil.isValidAsciiCpf(null));
+    }
+
+    @Test
+    void validateCpfs_shouldWriteOneResultPerCpf() {
+        boolean[] results = new boolean[4];
+
+        int valid = NumberUtil.validateCpfs(new String[]{"12345678909", "12345678900", null, "529.982.247-25"}, results);
+
+        assertEquals(2, valid);
+        assertArrayEquals(new boolean[]{true, false, false, true}, results);
+        assertThrows(IllegalArgumentException.class, () -> NumberUtil.validateCpfs(new String[2], new boolean[1]));
+    }
+
+    @Test
+    void parseCpf_shouldEncodePlainCpfs_andFormatCpfShouldRestoreThem() {
+        assertEquals(12345678909L, NumberUtil.parseCpf("12345678909"));
+        assertEquals(191L, NumberUtil.parseCpf("00000000191"));
+        assertEquals("00000000191", NumberUtil.formatCpf(191L));
+        assertEquals("99999999999", NumberUtil.formatCpf(NumberUtil.parseCpf("99999999999")));
+    }
+
+    @Test
+    void parseCpf_shouldRejectAnythingButElevenAsciiDigits() {
+        assertEquals(-1, NumberUtil.parseCpf("123.456.789-09"));
+        assertEquals(-1, NumberUtil.parseCpf("1234567890"));
+        assertEquals(-1, NumberUtil.parseCpf("123456789012"));
+        assertEquals(-1, NumberUtil.parseCpf("1234567890٩"));
+        assertEquals(-1, NumberUtil.parseCpf(""));
+        assertEquals(-1, NumberUtil.parseCpf(null));
+        assertThrows(IllegalArgumentException.class, () -> NumberUtil.formatCpf(-1));
+        assertThrows(IllegalArgumentException.class, () -> NumberUtil.formatCpf(100_000_000_000L));
+    }
+}
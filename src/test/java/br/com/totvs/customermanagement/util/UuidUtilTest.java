@@ -0,0 +1,51 @@
+package br.com.totvs.customermanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidUtilTest {
+
+    @Test
+    void timeOrdered_shouldCreateVersion7Uuids_withTheCurrentTime() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidUtil.timeOrdered();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertTrue(UuidUtil.timestampMillis(uuid) >= before && UuidUtil.timestampMillis(uuid) <= after);
+    }
+
+    @Test
+    void timeOrdered_shouldSortByCreationTime() {
+        Instant instant = Instant.parse("2025-06-01T12:00:00.000100Z");
+        UUID first = UuidUtil.timeOrdered(instant);
+        UUID sameMillisecond = UuidUtil.timeOrdered(instant.plusNanos(500_000));
+        UUID nextMillisecond = UuidUtil.timeOrdered(instant.plusMillis(1));
+
+        assertTrue(first.toString().compareTo(sameMillisecond.toString()) < 0);
+        assertTrue(sameMillisecond.toString().compareTo(nextMillisecond.toString()) < 0);
+        assertEquals(instant.toEpochMilli(), UuidUtil.timestampMillis(sameMillisecond));
+        assertTrue(first.toString().startsWith("01972b5c-ee00-7"));
+    }
+
+    @Test
+    void timeOrdered_shouldNotRepeat_acrossThreads() {
+        Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 100_000).parallel().forEach(i -> uuids.add(UuidUtil.timeOrdered()));
+
+        assertEquals(100_000, uuids.size());
+    }
+
+    @Test
+    void timestampMillis_shouldRejectOtherVersions() {
+        assertThrows(IllegalArgumentException.class, () -> UuidUtil.timestampMillis(UUID.randomUUID()));
+    }
+}